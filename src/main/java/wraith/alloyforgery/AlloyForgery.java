@@ -25,6 +25,7 @@ import wraith.alloyforgery.block.ForgeControllerBlockEntity;
 import wraith.alloyforgery.compat.AlloyForgeryConfig;
 import wraith.alloyforgery.data.AlloyForgeryGlobalRemaindersLoader;
 import wraith.alloyforgery.data.RecipeTagLoader;
+import wraith.alloyforgery.data.RecipeTagSync;
 import wraith.alloyforgery.forges.ForgeRegistry;
 import wraith.alloyforgery.forges.FuelDataLoader;
 import wraith.alloyforgery.recipe.*;
@@ -69,7 +70,9 @@ public class AlloyForgery implements ModInitializer {
 
         recipeTagLoader.initEvents();
 
-        CHANNEL.registerClientboundDeferred(RecipeTagLoader.TagPacket.class);
+        CHANNEL.registerClientboundDeferred(RecipeTagSync.ManifestPacket.class);
+        CHANNEL.registerClientboundDeferred(RecipeTagSync.GroupsPacket.class);
+        CHANNEL.registerServerbound(RecipeTagSync.GroupRequestPacket.class, RecipeTagSync::handleRequest);
 
         RecipeInjector.initEvents();
         RecipeInjector.ADD_RECIPES.register(new BlastFurnaceRecipeAdapter());
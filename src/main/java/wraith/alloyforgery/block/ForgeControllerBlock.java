@@ -83,6 +83,13 @@ public class ForgeControllerBlock extends BlockWithEntity {
         return ActionResult.SUCCESS;
     }
 
+    @Override
+    public void neighborUpdate(BlockState state, World world, BlockPos pos, Block sourceBlock, BlockPos sourcePos, boolean notify) {
+        if (world.getBlockEntity(pos) instanceof ForgeControllerBlockEntity controller) controller.wake();
+
+        super.neighborUpdate(state, world, pos, sourceBlock, sourcePos, notify);
+    }
+
     @Override
     public void onStateReplaced(BlockState state, World world, BlockPos pos, BlockState newState, boolean moved) {
         if (state.getBlock() != newState.getBlock()) {
@@ -140,7 +147,7 @@ public class ForgeControllerBlock extends BlockWithEntity {
     @Override
     public int getComparatorOutput(BlockState state, World world, BlockPos pos) {
         if (!(world.getBlockEntity(pos) instanceof ForgeControllerBlockEntity controller)) return 0;
-        return controller.getCurrentSmeltTime() == 0 ? 0 : Math.max(1, Math.round(controller.getSmeltProgress() * 0.46875f));
+        return controller.getComparatorOutput();
     }
 
     @Override
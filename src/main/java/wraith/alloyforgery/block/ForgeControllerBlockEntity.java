@@ -1,6 +1,5 @@
 package wraith.alloyforgery.block;
 
-import com.google.common.collect.ImmutableList;
 import io.wispforest.owo.ops.ItemOps;
 import io.wispforest.owo.util.ImplementedInventory;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
@@ -21,6 +20,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.recipe.RecipeEntry;
 import net.minecraft.screen.*;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.text.Text;
@@ -33,6 +33,9 @@ import wraith.alloyforgery.AlloyForgery;
 import wraith.alloyforgery.forges.*;
 import wraith.alloyforgery.mixin.HopperBlockEntityAccessor;
 import wraith.alloyforgery.recipe.AlloyForgeRecipe;
+import wraith.alloyforgery.recipe.AlloyForgeRecipeIndex;
+import wraith.alloyforgery.recipe.AlloyForgeReloadContext;
+import wraith.alloyforgery.recipe.ForgingPlan;
 import java.util.*;
 
 @SuppressWarnings("UnstableApiUsage")
@@ -42,22 +45,55 @@ public class ForgeControllerBlockEntity extends BlockEntity implements Implement
     private static final int[] RIGHT_SLOTS = new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
     private static final int[] LEFT_SLOTS = new int[]{11};
 
+    // Offsets from the controller to each block within the multiblock as x, y, z triples, indexed by horizontal facing
+    private static final int[][] MULTIBLOCK_OFFSETS = new int[4][];
+
+    static {
+        for (var direction : Direction.Type.HORIZONTAL) {
+            final var positions = generateMultiblockPositions(BlockPos.ORIGIN, direction);
+            final var offsets = new int[positions.size() * 3];
+
+            for (int i = 0; i < positions.size(); i++) {
+                offsets[i * 3] = positions.get(i).getX();
+                offsets[i * 3 + 1] = positions.get(i).getY();
+                offsets[i * 3 + 2] = positions.get(i).getZ();
+            }
+
+            MULTIBLOCK_OFFSETS[direction.getHorizontal()] = offsets;
+        }
+    }
+
+    // Input slots 0-9 and the output slot 10, the fuel slot does not affect crafting
+    private static final int RECIPE_SLOTS_MASK = (1 << 11) - 1;
+
     public static final int INVENTORY_SIZE = 12;
     private final DefaultedList<ItemStack> items = DefaultedList.ofSize(INVENTORY_SIZE, ItemStack.EMPTY);
 
-    private final DefaultedList<ItemStack> previousItems = DefaultedList.of();
+    private final SlotChangeTracker slotTracker = new SlotChangeTracker(INVENTORY_SIZE);
     private boolean checkForRecipes = true;
 
+    // Set when nothing can progress until the forge is woken by an inventory, fuel or neighbour change
+    private boolean dormant = false;
+
+    // Reload the forge was last evaluated for, as any reload may change the fuels or recipes of a dormant forge
+    @Nullable
+    private AlloyForgeReloadContext reloadContext = null;
+
     private Optional<RecipeEntry<AlloyForgeRecipe>> recipeCache = Optional.empty();
+    private final ForgingPlan forgingPlan = new ForgingPlan();
 
     private int requiredTierToCraft = -1;
 
     private final FluidHolder fluidHolder = new FluidHolder();
 
     private final ForgeDefinition forgeDefinition;
-    private final ImmutableList<BlockPos> multiblockPositions;
     private final Direction facing;
 
+    // Validity of the multiblock is cached while tracked, being invalidated on any block change within such
+    private boolean multiblockTracked = false;
+    private boolean multiblockChecked = false;
+    private boolean multiblockValid = false;
+
     private float fuel;
     private int currentSmeltTime;
 
@@ -65,12 +101,13 @@ public class ForgeControllerBlockEntity extends BlockEntity implements Implement
     private int fuelProgress;
     private int lavaProgress;
 
+    // Last signal comparators were notified of, -1 to notify on the first tick
+    private int comparatorOutput = -1;
+
     public ForgeControllerBlockEntity(BlockPos pos, BlockState state) {
         super(AlloyForgery.FORGE_CONTROLLER_BLOCK_ENTITY, pos, state);
         forgeDefinition = ((ForgeControllerBlock) state.getBlock()).forgeDefinition;
         facing = state.get(ForgeControllerBlock.FACING);
-
-        multiblockPositions = generateMultiblockPositions(pos.toImmutable(), state.get(ForgeControllerBlock.FACING));
     }
 
     private final PropertyDelegate properties = new PropertyDelegate() {
@@ -104,6 +141,8 @@ public class ForgeControllerBlockEntity extends BlockEntity implements Implement
         final var fluidNbt = nbt.getCompound("FuelFluidInput");
         this.fluidHolder.amount = fluidNbt.getLong("Amount");
         this.fluidHolder.variant = FluidVariant.fromNbt(nbt.getCompound("Variant"));
+
+        this.wake();
     }
 
     @Override
@@ -134,6 +173,8 @@ public class ForgeControllerBlockEntity extends BlockEntity implements Implement
 
     public void addFuel(int fuel) {
         this.fuel += fuel;
+
+        this.wake();
     }
 
     public int getSmeltProgress() {
@@ -150,16 +191,23 @@ public class ForgeControllerBlockEntity extends BlockEntity implements Implement
 
     @Override
     public void markDirty() {
-        if (ItemStackComparisonUtil.itemsChanged(items, previousItems)) {
-            this.previousItems.clear();
-            this.previousItems.addAll(items.stream().map(ItemStack::copy).toList());
-
+        if ((this.slotTracker.update(this.items) & RECIPE_SLOTS_MASK) != 0) {
             this.checkForRecipes = true;
         }
 
+        // Covers inventory writes as well as fluid inserts through the FluidHolder
+        this.wake();
+
         super.markDirty();
     }
 
+    /**
+     * Brings the forge out of dormancy so that the next tick is fully evaluated again
+     */
+    public void wake() {
+        this.dormant = false;
+    }
+
     @Override
     public void setStack(int slot, ItemStack stack) {
         ImplementedInventory.super.setStack(slot, stack);
@@ -168,11 +216,26 @@ public class ForgeControllerBlockEntity extends BlockEntity implements Implement
     }
 
     public void tick() {
-        this.smeltProgress = Math.round((this.currentSmeltTime / (float) forgeDefinition.maxSmeltTime()) * 19);
-        this.fuelProgress = Math.round((this.fuel / (float) forgeDefinition.fuelCapacity()) * 48);
-        this.lavaProgress = Math.round((this.fluidHolder.getAmount() / (float) FluidConstants.BUCKET) * 50);
+        if (!this.multiblockTracked && this.world instanceof ServerWorld serverWorld) {
+            ForgeMultiblockTracker.of(serverWorld).track(this);
+
+            this.multiblockTracked = true;
+        }
+
+        final var reloadContext = AlloyForgeReloadContext.active();
+
+        if (this.reloadContext != reloadContext) {
+            this.reloadContext = reloadContext;
+
+            this.recipeCache = Optional.empty();
+            this.checkForRecipes = true;
+            this.wake();
+        }
+
+        if (this.dormant) return;
 
-        world.updateComparators(pos, getCachedState().getBlock());
+        this.updateProgress();
+        this.updateComparators();
 
         if (!this.verifyMultiblock()) {
             this.currentSmeltTime = 0;
@@ -182,6 +245,9 @@ public class ForgeControllerBlockEntity extends BlockEntity implements Implement
                 world.setBlockState(pos, currentState.with(ForgeControllerBlock.LIT, false));
             }
 
+            // Nothing can happen till a block within the multiblock changes
+            this.sleep();
+
             return;
         }
 
@@ -219,29 +285,36 @@ public class ForgeControllerBlockEntity extends BlockEntity implements Implement
         // 3: Prevent recipe checking if the inventory has not changed
         if (this.isEmpty()) {
             this.currentSmeltTime = 0;
+            this.trySleep();
 
             return;
         }
 
         if (this.fuel < 5 || !this.checkForRecipes) {
             this.currentSmeltTime = 0;
+            this.trySleep();
 
             return;
         }
 
         //--
 
-        if (this.recipeCache.isEmpty() || !this.recipeCache.get().value().matches(this, this.world)) {
-            this.recipeCache = this.world.getRecipeManager().getFirstMatch(AlloyForgeRecipe.Type.INSTANCE, this, this.world);
-        }
+        if (this.recipeCache.isEmpty() || !this.forgingPlan.prepare(this.recipeCache.get(), this)) {
+            final int forgeTier = this.forgeDefinition.forgeTier();
+            final var recipeIndex = AlloyForgeRecipeIndex.of(this.world.getRecipeManager());
+
+            this.recipeCache = recipeIndex.getFirstMatch(this, forgeTier, this.forgingPlan);
 
-        if (this.recipeCache.isEmpty() && this.requiredTierToCraft != -1) {
-            this.requiredTierToCraft = -1;
+            // Recipes above the forges tier are only looked up to show the tier required to craft such
+            this.requiredTierToCraft = this.recipeCache.isEmpty()
+                    ? recipeIndex.getFirstMatchAboveTier(this, forgeTier, this.world).map(entry -> entry.value().getMinForgeTier()).orElse(-1)
+                    : -1;
         }
 
         if (this.recipeCache.isEmpty() || !canSmelt(this.recipeCache.get().value())) {
             this.checkForRecipes = false;
             this.currentSmeltTime = 0;
+            this.trySleep();
             return;
         }
 
@@ -264,14 +337,11 @@ public class ForgeControllerBlockEntity extends BlockEntity implements Implement
                 AlloyForgery.FORGE_PARTICLES.spawn(this.world, Vec3d.of(this.pos), this.facing);
             }
         } else {
-            var remainderList = AlloyForgeRecipe.gatherRemainders(recipeCache.get(), this);
-
-            if (remainderList != null) this.handleForgingRemainders(remainderList);
-
             var outputStack = this.getStack(10);
             var recipeOutput = recipe.craft(this, this.world.getRegistryManager());
 
-            recipe.consumeIngredients(this);
+            // Remainders and consumed ingredients use the binding already made this tick
+            this.forgingPlan.apply(this, this::attemptInsertOnIndex);
 
             if (outputStack.isEmpty()) {
                 this.setStack(10, recipeOutput);
@@ -283,25 +353,56 @@ public class ForgeControllerBlockEntity extends BlockEntity implements Implement
         }
     }
 
-    private boolean canSmelt(AlloyForgeRecipe recipe) {
-        final var outputStack = this.getStack(10);
-        final var recipeOutput = recipe.getResult(this.forgeDefinition.forgeTier());
+    private void updateProgress() {
+        this.smeltProgress = Math.round((this.currentSmeltTime / (float) forgeDefinition.maxSmeltTime()) * 19);
+        this.fuelProgress = Math.round((this.fuel / (float) forgeDefinition.fuelCapacity()) * 48);
+        this.lavaProgress = Math.round((this.fluidHolder.getAmount() / (float) FluidConstants.BUCKET) * 50);
+    }
 
-        if (recipe.getMinForgeTier() > this.forgeDefinition.forgeTier()) {
-            this.requiredTierToCraft = recipe.getMinForgeTier();
+    // Puts the forge to sleep unless fuel is still waiting to be converted
+    private void trySleep() {
+        if (!this.hasPendingFuel()) this.sleep();
+    }
 
-            return false;
-        } else if (requiredTierToCraft != -1) {
-            this.requiredTierToCraft = -1;
-        }
+    // Progress and comparator output are brought up to date as they will not change while asleep
+    private void sleep() {
+        this.dormant = true;
 
-        return outputStack.isEmpty() || ItemOps.canStack(outputStack, recipeOutput);
+        this.updateProgress();
+        this.updateComparators();
+    }
+
+    public int getComparatorOutput() {
+        return this.currentSmeltTime == 0 ? 0 : Math.max(1, Math.round(this.smeltProgress * 0.46875f));
+    }
+
+    // Only notifies comparators when the signal has changed from what was last emitted
+    private void updateComparators() {
+        final int output = this.getComparatorOutput();
+
+        if (output == this.comparatorOutput) return;
+
+        this.comparatorOutput = output;
+        this.world.updateComparators(this.pos, this.getCachedState().getBlock());
     }
 
-    private void handleForgingRemainders(DefaultedList<ItemStack> remainderList) {
-        for (int i = 0; i < remainderList.size(); ++i) {
-            attemptInsertOnIndex(i, remainderList.get(i));
+    private boolean hasPendingFuel() {
+        final var fuelStack = this.getFuelStack();
+
+        if (!fuelStack.isEmpty()) {
+            final var fuelDefinition = ForgeFuelRegistry.getFuelForItem(fuelStack.getItem());
+
+            if (fuelDefinition != ForgeFuelRegistry.ForgeFuelDefinition.EMPTY && canAddFuel(fuelDefinition.fuel())) return true;
         }
+
+        return this.fluidHolder.amount >= 81 && this.fuel < this.forgeDefinition.fuelCapacity();
+    }
+
+    private boolean canSmelt(AlloyForgeRecipe recipe) {
+        final var outputStack = this.getStack(10);
+        final var recipeOutput = recipe.getResultView(this.forgeDefinition.forgeTier());
+
+        return outputStack.isEmpty() || ItemOps.canStack(outputStack, recipeOutput);
     }
 
     public void attemptInsertOnIndex(int i, ItemStack itemstack) {
@@ -390,18 +491,65 @@ public class ForgeControllerBlockEntity extends BlockEntity implements Implement
 
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
     public boolean verifyMultiblock() {
-        final BlockState belowController = world.getBlockState(multiblockPositions.get(0));
+        if (!this.multiblockTracked) return this.checkMultiblock();
+
+        if (!this.multiblockChecked) {
+            this.multiblockValid = this.checkMultiblock();
+            this.multiblockChecked = true;
+        }
+
+        return this.multiblockValid;
+    }
+
+    /**
+     * Called by the {@link ForgeMultiblockTracker} when a block within the multiblock has been changed
+     */
+    public void invalidateMultiblock() {
+        this.multiblockChecked = false;
+
+        this.wake();
+    }
+
+    public int getMultiblockSize() {
+        return MULTIBLOCK_OFFSETS[this.facing.getHorizontal()].length / 3;
+    }
+
+    /**
+     * @return The position of the given block within the multiblock, with 0 being the block below the controller
+     */
+    public BlockPos.Mutable getMultiblockPosition(int index, BlockPos.Mutable pos) {
+        final var offsets = MULTIBLOCK_OFFSETS[this.facing.getHorizontal()];
+
+        return pos.set(this.pos, offsets[index * 3], offsets[index * 3 + 1], offsets[index * 3 + 2]);
+    }
+
+    @Override
+    public void markRemoved() {
+        super.markRemoved();
+
+        if (this.multiblockTracked && this.world instanceof ServerWorld serverWorld) {
+            ForgeMultiblockTracker.of(serverWorld).untrack(this);
+        }
+
+        this.multiblockTracked = false;
+        this.multiblockChecked = false;
+    }
+
+    private boolean checkMultiblock() {
+        final var memberPos = new BlockPos.Mutable();
+
+        final BlockState belowController = world.getBlockState(getMultiblockPosition(0, memberPos));
         if (!(belowController.isOf(Blocks.HOPPER) || forgeDefinition.isBlockValid(belowController.getBlock())))
             return false;
 
-        for (int i = 1; i < multiblockPositions.size(); i++) {
-            if (!forgeDefinition.isBlockValid(world.getBlockState(multiblockPositions.get(i)).getBlock())) return false;
+        for (int i = 1; i < getMultiblockSize(); i++) {
+            if (!forgeDefinition.isBlockValid(world.getBlockState(getMultiblockPosition(i, memberPos)).getBlock())) return false;
         }
 
         return true;
     }
 
-    private static ImmutableList<BlockPos> generateMultiblockPositions(BlockPos controllerPos, Direction controllerFacing) {
+    private static List<BlockPos> generateMultiblockPositions(BlockPos controllerPos, Direction controllerFacing) {
         final List<BlockPos> posses = new ArrayList<>();
         final BlockPos center = controllerPos.offset(controllerFacing.getOpposite());
 
@@ -422,7 +570,7 @@ public class ForgeControllerBlockEntity extends BlockEntity implements Implement
         }
 
         posses.remove(controllerPos);
-        return ImmutableList.copyOf(posses);
+        return posses;
     }
 
     @Override
@@ -0,0 +1,59 @@
+package wraith.alloyforgery.block;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import wraith.alloyforgery.pond.ForgeMultiblockTrackerHolder;
+import java.util.List;
+
+/**
+ * Per-world index from the positions making up a forge multiblock to the controllers using such,
+ * allowing controllers to cache the validity of their structure until a block within it is changed
+ */
+public final class ForgeMultiblockTracker {
+
+    private final Long2ObjectOpenHashMap<List<ForgeControllerBlockEntity>> controllersByMember = new Long2ObjectOpenHashMap<>();
+
+    public static ForgeMultiblockTracker of(ServerWorld world) {
+        return ((ForgeMultiblockTrackerHolder) world).af$getMultiblockTracker();
+    }
+
+    public void track(ForgeControllerBlockEntity controller) {
+        var memberPos = new BlockPos.Mutable();
+
+        for (int i = 0; i < controller.getMultiblockSize(); i++) {
+            long key = controller.getMultiblockPosition(i, memberPos).asLong();
+
+            this.controllersByMember.computeIfAbsent(key, k -> new ReferenceArrayList<>(1)).add(controller);
+        }
+    }
+
+    public void untrack(ForgeControllerBlockEntity controller) {
+        var memberPos = new BlockPos.Mutable();
+
+        for (int i = 0; i < controller.getMultiblockSize(); i++) {
+            long key = controller.getMultiblockPosition(i, memberPos).asLong();
+            var controllers = this.controllersByMember.get(key);
+
+            if (controllers == null) continue;
+
+            controllers.remove(controller);
+
+            if (controllers.isEmpty()) this.controllersByMember.remove(key);
+        }
+    }
+
+    /**
+     * Called when the block at the given position has been replaced with a different block
+     */
+    public void onBlockChanged(BlockPos pos) {
+        var controllers = this.controllersByMember.get(pos.asLong());
+
+        if (controllers == null) return;
+
+        for (var controller : controllers) {
+            controller.invalidateMultiblock();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package wraith.alloyforgery.block;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import java.util.List;
+
+/**
+ * Tracks the item, count and nbt of each slot within an inventory, allowing for changed slots
+ * to be found without holding onto copies of every stack
+ */
+public class SlotChangeTracker {
+
+    private final Item[] items;
+    private final int[] counts;
+
+    private final NbtCompound[] nbts;
+    private final int[] nbtHashes;
+
+    public SlotChangeTracker(int size) {
+        this.items = new Item[size];
+        this.counts = new int[size];
+        this.nbts = new NbtCompound[size];
+        this.nbtHashes = new int[size];
+    }
+
+    /**
+     * Compares the given stacks against those of the last call, with every slot being changed on the first call.
+     * Stacks are checked in full as they may have been modified in place, such as by hoppers or screen handlers
+     *
+     * @return Bitmask of the slots which changed since the last call
+     */
+    public int update(List<ItemStack> stacks) {
+        int changedSlots = 0;
+
+        for (int slot = 0; slot < this.items.length; slot++) {
+            var stack = stacks.get(slot);
+
+            var item = stack.getItem();
+            var count = stack.getCount();
+            var nbt = stack.getNbt();
+            var nbtHash = nbt != null ? nbt.hashCode() : 0;
+
+            if (item == this.items[slot] && count == this.counts[slot] && nbt == this.nbts[slot] && nbtHash == this.nbtHashes[slot]) {
+                continue;
+            }
+
+            this.items[slot] = item;
+            this.counts[slot] = count;
+            this.nbts[slot] = nbt;
+            this.nbtHashes[slot] = nbtHash;
+
+            changedSlots |= 1 << slot;
+        }
+
+        return changedSlots;
+    }
+}
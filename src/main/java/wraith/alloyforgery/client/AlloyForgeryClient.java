@@ -3,7 +3,7 @@ package wraith.alloyforgery.client;
 import net.fabricmc.api.*;
 import net.minecraft.client.gui.screen.ingame.HandledScreens;
 import wraith.alloyforgery.AlloyForgery;
-import wraith.alloyforgery.data.RecipeTagLoader;
+import wraith.alloyforgery.data.RecipeTagSync;
 
 @Environment(EnvType.CLIENT)
 public class AlloyForgeryClient implements ClientModInitializer {
@@ -12,7 +12,8 @@ public class AlloyForgeryClient implements ClientModInitializer {
     public void onInitializeClient() {
         HandledScreens.register(AlloyForgery.ALLOY_FORGE_SCREEN_HANDLER_TYPE, AlloyForgeScreen::new);
 
-        AlloyForgery.CHANNEL.registerClientbound(RecipeTagLoader.TagPacket.class, RecipeTagLoader.TagPacket::handlePacket);
+        AlloyForgery.CHANNEL.registerClientbound(RecipeTagSync.ManifestPacket.class, RecipeTagSyncClient::handleManifest);
+        AlloyForgery.CHANNEL.registerClientbound(RecipeTagSync.GroupsPacket.class, RecipeTagSyncClient::handleGroups);
     }
 
 }
@@ -0,0 +1,88 @@
+package wraith.alloyforgery.client;
+
+import io.wispforest.owo.network.ClientAccess;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+import wraith.alloyforgery.AlloyForgery;
+import wraith.alloyforgery.data.RecipeTagLoader;
+import wraith.alloyforgery.data.RecipeTagSnapshot;
+import wraith.alloyforgery.data.RecipeTagSync;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client side of {@link RecipeTagSync}, keeping the tag groups last received from each server
+ * keyed by their digest so that only changed groups have to be requested again
+ */
+@Environment(EnvType.CLIENT)
+public final class RecipeTagSyncClient {
+
+    private static final Map<String, Long2ObjectOpenHashMap<RecipeTagSync.TagGroup>> GROUPS_BY_SERVER = new HashMap<>();
+
+    @Nullable
+    private static List<RecipeTagSync.GroupDigest> pendingManifest = null;
+
+    public static void handleManifest(RecipeTagSync.ManifestPacket packet, ClientAccess access) {
+        final var groups = groupsOf(access.runtime());
+        final var missing = new ArrayList<Long>();
+
+        for (var group : packet.groups()) {
+            if (!groups.containsKey(group.digest())) missing.add(group.digest());
+        }
+
+        pendingManifest = packet.groups();
+
+        if (missing.isEmpty()) {
+            applyManifest(groups);
+        } else {
+            AlloyForgery.CHANNEL.clientHandle().send(new RecipeTagSync.GroupRequestPacket(missing));
+        }
+    }
+
+    public static void handleGroups(RecipeTagSync.GroupsPacket packet, ClientAccess access) {
+        final var groups = groupsOf(access.runtime());
+
+        for (var group : packet.groups()) {
+            groups.put(RecipeTagSync.digest(group), RecipeTagSync.decodeGroup(group));
+        }
+
+        applyManifest(groups);
+    }
+
+    private static void applyManifest(Long2ObjectOpenHashMap<RecipeTagSync.TagGroup> groups) {
+        if (pendingManifest == null) return;
+
+        final var tagEntries = new HashMap<Identifier, List<Identifier>>();
+        final var usedDigests = new LongOpenHashSet();
+
+        for (var groupDigest : pendingManifest) {
+            var group = groups.get(groupDigest.digest());
+
+            // Still awaiting some of the requested groups
+            if (group == null) return;
+
+            tagEntries.put(group.tag(), group.entries());
+            usedDigests.add(groupDigest.digest());
+        }
+
+        // Groups no longer used by the server are dropped to not accumulate across reloads
+        groups.keySet().retainAll(usedDigests);
+
+        pendingManifest = null;
+
+        RecipeTagLoader.setResolvedEntries(RecipeTagSnapshot.of(tagEntries));
+    }
+
+    private static Long2ObjectOpenHashMap<RecipeTagSync.TagGroup> groupsOf(MinecraftClient client) {
+        final var serverEntry = client.getCurrentServerEntry();
+
+        return GROUPS_BY_SERVER.computeIfAbsent(serverEntry != null ? serverEntry.address : "", address -> new Long2ObjectOpenHashMap<>());
+    }
+}
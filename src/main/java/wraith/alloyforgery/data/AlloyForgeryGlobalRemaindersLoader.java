@@ -8,18 +8,17 @@ import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.recipe.ShapedRecipe;
-import net.minecraft.resource.JsonDataLoader;
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 import net.minecraft.util.profiler.Profiler;
 import org.slf4j.Logger;
 import wraith.alloyforgery.AlloyForgery;
-import wraith.alloyforgery.recipe.AlloyForgeRecipe;
+import wraith.alloyforgery.recipe.AlloyForgeReloadContext;
 import java.util.HashMap;
 import java.util.Map;
 
-public class AlloyForgeryGlobalRemaindersLoader extends JsonDataLoader implements IdentifiableResourceReloadListener {
+public class AlloyForgeryGlobalRemaindersLoader extends ParsingJsonDataLoader<Map<Item, ItemStack>> implements IdentifiableResourceReloadListener {
 
     private static final Endec<ItemStack> RECIPE_RESULT_ENDEC = Endec.ofCodec(ItemStack.RECIPE_RESULT_CODEC);
 
@@ -32,7 +31,9 @@ public class AlloyForgeryGlobalRemaindersLoader extends JsonDataLoader implement
     }
 
     @Override
-    protected void apply(Map<Identifier, JsonElement> prepared, ResourceManager manager, Profiler profiler) {
+    protected Map<Item, ItemStack> parse(Map<Identifier, JsonElement> prepared) {
+        final var allRemainders = new HashMap<Item, ItemStack>();
+
         prepared.forEach((identifier, jsonElement) -> {
             try {
                 if (jsonElement instanceof JsonObject jsonObject) {
@@ -50,7 +51,7 @@ public class AlloyForgeryGlobalRemaindersLoader extends JsonDataLoader implement
                         }
                     }
 
-                    AlloyForgeRecipe.addRemainders(remainders);
+                    allRemainders.putAll(remainders);
                 } else {
                     throw new JsonSyntaxException("Expected alloy forge remainders definition to be a json object");
                 }
@@ -58,6 +59,13 @@ public class AlloyForgeryGlobalRemaindersLoader extends JsonDataLoader implement
                 LOGGER.error("[AlloyForgeRemainders]: Parsing error loading recipe {}", identifier, exception);
             }
         });
+
+        return Map.copyOf(allRemainders);
+    }
+
+    @Override
+    protected void apply(Map<Item, ItemStack> prepared, ResourceManager manager, Profiler profiler) {
+        AlloyForgeReloadContext.staged().setRemainders(prepared);
     }
 
     @Override
@@ -0,0 +1,42 @@
+package wraith.alloyforgery.data;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import net.minecraft.resource.JsonDataLoader;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.SinglePreparationResourceReloader;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.profiler.Profiler;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Version of {@link JsonDataLoader} that also parses the loaded files within the off-thread prepare
+ * stage, leaving only the swap of the parsed result to be done within the apply stage
+ *
+ * @param <T> Type of the parsed result
+ */
+public abstract class ParsingJsonDataLoader<T> extends SinglePreparationResourceReloader<T> {
+
+    private final Gson gson;
+    private final String dataType;
+
+    protected ParsingJsonDataLoader(Gson gson, String dataType) {
+        this.gson = gson;
+        this.dataType = dataType;
+    }
+
+    @Override
+    protected final T prepare(ResourceManager manager, Profiler profiler) {
+        final var jsonData = new HashMap<Identifier, JsonElement>();
+
+        JsonDataLoader.load(manager, this.dataType, this.gson, jsonData);
+
+        return this.parse(jsonData);
+    }
+
+    /**
+     * Called off-thread within the prepare stage to parse the loaded files into an immutable result
+     */
+    protected abstract T parse(Map<Identifier, JsonElement> prepared);
+}
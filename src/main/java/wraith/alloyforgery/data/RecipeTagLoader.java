@@ -1,6 +1,5 @@
 package wraith.alloyforgery.data;
 
-import io.wispforest.owo.network.ClientAccess;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
@@ -12,8 +11,8 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.profiler.Profiler;
 import wraith.alloyforgery.AlloyForgery;
+import wraith.alloyforgery.pond.RecipeTagHelper;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Tag Loader used to load Recipe Based tags with the resolving
@@ -21,7 +20,7 @@ import java.util.stream.Collectors;
  */
 public class RecipeTagLoader extends SinglePreparationResourceReloader<Map<Identifier, List<TagGroupLoader.TrackedEntry>>> implements IdentifiableResourceReloadListener, ServerLifecycleEvents.ServerStarted, ServerLifecycleEvents.EndDataPackReload {
 
-    private static final Map<Identifier, Set<Identifier>> RESOLVED_ENTRIES = new HashMap<>();
+    private static volatile RecipeTagSnapshot resolvedEntries = RecipeTagSnapshot.EMPTY;
 
     private static final Map<Identifier, List<TagGroupLoader.TrackedEntry>> RAW_TAG_DATA = new HashMap<>();
 
@@ -52,7 +51,7 @@ public class RecipeTagLoader extends SinglePreparationResourceReloader<Map<Ident
      * @return true if the tag exists and if the given entry exists within the Tag group
      */
     public static boolean isWithinTag(Identifier tag, RecipeEntry<?> entry) {
-        return isWithinTag(tag, entry.id());
+        return ((RecipeTagHelper) (Object) entry).isIn(tag);
     }
 
     /**
@@ -61,9 +60,18 @@ public class RecipeTagLoader extends SinglePreparationResourceReloader<Map<Ident
      * @return true if the tag exists and if the given entry exists within the Tag group
      */
     public static boolean isWithinTag(Identifier tag, Identifier recipeID) {
-        if (!RESOLVED_ENTRIES.containsKey(tag)) return false;
+        return resolvedEntries.isWithinTag(tag, recipeID);
+    }
+
+    public static RecipeTagSnapshot resolvedEntries() {
+        return resolvedEntries;
+    }
 
-        return RESOLVED_ENTRIES.get(tag).contains(recipeID);
+    /**
+     * Replaces the resolved entries with those synced from the server
+     */
+    public static void setResolvedEntries(RecipeTagSnapshot snapshot) {
+        resolvedEntries = snapshot;
     }
 
     //--
@@ -73,7 +81,7 @@ public class RecipeTagLoader extends SinglePreparationResourceReloader<Map<Ident
         ServerLifecycleEvents.SERVER_STARTED.register(this);
 
         ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> {
-            AlloyForgery.CHANNEL.serverHandle(handler.player).send(TagPacket.of(RESOLVED_ENTRIES));
+            RecipeTagSync.sendManifest(handler.player);
         });
     }
 
@@ -83,7 +91,7 @@ public class RecipeTagLoader extends SinglePreparationResourceReloader<Map<Ident
 
         resolveEntries(server);
 
-        AlloyForgery.CHANNEL.serverHandle(server).send(TagPacket.of(RESOLVED_ENTRIES));
+        RecipeTagSync.sendManifest(server);
     }
 
     @Override
@@ -99,32 +107,13 @@ public class RecipeTagLoader extends SinglePreparationResourceReloader<Map<Ident
                 })
                 .buildGroup(RAW_TAG_DATA);
 
-        RESOLVED_ENTRIES.clear();
+        final var tagEntries = new HashMap<Identifier, List<Identifier>>();
 
-        map.forEach((id, recipes) -> RESOLVED_ENTRIES.put(id, recipes.stream().map(RecipeEntry::id).collect(Collectors.toSet())));
-    }
-
-    // Packet that acts as a sync packet for the Recipe Based Tag Entries
-    public record TagPacket(List<TagEntry> entries) {
-        public static TagPacket of(Map<Identifier, Set<Identifier>> tagEntries) {
-            return new TagPacket(tagEntries.entrySet().stream()
-                    .map(entry -> new TagEntry(entry.getKey(), List.copyOf(entry.getValue())))
-                    .toList());
-        }
-
-        public static void handlePacket(TagPacket packet, ClientAccess access) {
-            RESOLVED_ENTRIES.clear();
-
-            RESOLVED_ENTRIES.putAll(
-                    packet.entries.stream().collect(Collectors.toMap(TagEntry::id, e -> new HashSet<>(e.entries())))
-            );
-        }
-    }
+        map.forEach((id, recipes) -> tagEntries.put(id, recipes.stream().map(RecipeEntry::id).toList()));
 
-    public record TagEntry(Identifier id, List<Identifier> entries) {
+        resolvedEntries = RecipeTagSnapshot.of(tagEntries);
+        RecipeTagSync.update(resolvedEntries);
     }
 
-    ;
-
     //--
 }
@@ -0,0 +1,103 @@
+package wraith.alloyforgery.data;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.util.Identifier;
+import java.util.*;
+
+/**
+ * Immutable view of the resolved Recipe Based Tags, with every recipe within any tag being interned
+ * to a dense index so that each tag can be stored as a bitset of such indices
+ */
+public final class RecipeTagSnapshot {
+
+    public static final RecipeTagSnapshot EMPTY = new RecipeTagSnapshot(new Object2IntOpenHashMap<>(), List.of(), new Object2ObjectOpenHashMap<>());
+
+    private final Object2IntOpenHashMap<Identifier> indexByRecipe;
+    private final List<Identifier> recipes;
+    private final Object2ObjectOpenHashMap<Identifier, BitSet> tags;
+
+    private RecipeTagSnapshot(Object2IntOpenHashMap<Identifier> indexByRecipe, List<Identifier> recipes, Object2ObjectOpenHashMap<Identifier, BitSet> tags) {
+        this.indexByRecipe = indexByRecipe;
+        this.recipes = recipes;
+        this.tags = tags;
+    }
+
+    public static RecipeTagSnapshot of(Map<Identifier, ? extends Collection<Identifier>> tagEntries) {
+        final var indexByRecipe = new Object2IntOpenHashMap<Identifier>();
+        final var recipes = new ArrayList<Identifier>();
+        final var tags = new Object2ObjectOpenHashMap<Identifier, BitSet>(tagEntries.size());
+
+        indexByRecipe.defaultReturnValue(-1);
+
+        tagEntries.forEach((tag, entries) -> {
+            var bits = new BitSet();
+
+            for (var recipeId : entries) {
+                int index = indexByRecipe.getInt(recipeId);
+
+                if (index == -1) {
+                    index = recipes.size();
+
+                    indexByRecipe.put(recipeId, index);
+                    recipes.add(recipeId);
+                }
+
+                bits.set(index);
+            }
+
+            tags.put(tag, bits);
+        });
+
+        indexByRecipe.trim();
+        tags.trim();
+
+        return new RecipeTagSnapshot(indexByRecipe, Collections.unmodifiableList(recipes), tags);
+    }
+
+    /**
+     * @return The interned index of the given recipe or -1 if such is not within any tag
+     */
+    public int indexOf(Identifier recipeId) {
+        return this.indexByRecipe.getInt(recipeId);
+    }
+
+    public boolean isWithinTag(Identifier tag, int recipeIndex) {
+        if (recipeIndex < 0) return false;
+
+        final var bits = this.tags.get(tag);
+
+        return bits != null && bits.get(recipeIndex);
+    }
+
+    public boolean isWithinTag(Identifier tag, Identifier recipeId) {
+        return this.isWithinTag(tag, this.indexOf(recipeId));
+    }
+
+    public Set<Identifier> tags() {
+        return Collections.unmodifiableSet(this.tags.keySet());
+    }
+
+    /**
+     * @return The ids of all recipes within the given tag
+     */
+    public List<Identifier> entries(Identifier tag) {
+        final var bits = this.tags.get(tag);
+
+        if (bits == null) return List.of();
+
+        final var entries = new ArrayList<Identifier>(bits.cardinality());
+
+        for (int index = bits.nextSetBit(0); index >= 0; index = bits.nextSetBit(index + 1)) {
+            entries.add(this.recipes.get(index));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Interned index of a recipe within the given snapshot
+     */
+    public record RecipeIndex(RecipeTagSnapshot snapshot, int index) {
+    }
+}
@@ -0,0 +1,123 @@
+package wraith.alloyforgery.data;
+
+import com.google.common.hash.Hashing;
+import io.netty.buffer.Unpooled;
+import io.wispforest.owo.network.ServerAccess;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+import wraith.alloyforgery.AlloyForgery;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Syncs the Recipe Based Tags to clients by first sending a manifest with a digest of each encoded tag group,
+ * with clients then only requesting the groups whose digest they have not already received
+ */
+public final class RecipeTagSync {
+
+    private static volatile RecipeTagSync current = RecipeTagSync.of(RecipeTagSnapshot.EMPTY);
+
+    private final ManifestPacket manifest;
+    private final Long2ObjectOpenHashMap<byte[]> groupsByDigest;
+
+    private RecipeTagSync(ManifestPacket manifest, Long2ObjectOpenHashMap<byte[]> groupsByDigest) {
+        this.manifest = manifest;
+        this.groupsByDigest = groupsByDigest;
+    }
+
+    private static RecipeTagSync of(RecipeTagSnapshot snapshot) {
+        final var digests = new ArrayList<GroupDigest>();
+        final var groupsByDigest = new Long2ObjectOpenHashMap<byte[]>();
+
+        for (var tag : snapshot.tags()) {
+            var entries = new ArrayList<>(snapshot.entries(tag));
+
+            // Sorted so that equal groups always share the same digest
+            entries.sort(Comparator.naturalOrder());
+
+            var group = encodeGroup(new TagGroup(tag, entries));
+            var digest = digest(group);
+
+            digests.add(new GroupDigest(tag, digest));
+            groupsByDigest.put(digest, group);
+        }
+
+        return new RecipeTagSync(new ManifestPacket(digests), groupsByDigest);
+    }
+
+    /**
+     * Encodes the given snapshot for syncing, done once each time the tags are resolved
+     */
+    public static void update(RecipeTagSnapshot snapshot) {
+        current = RecipeTagSync.of(snapshot);
+    }
+
+    public static void sendManifest(ServerPlayerEntity player) {
+        AlloyForgery.CHANNEL.serverHandle(player).send(current.manifest);
+    }
+
+    public static void sendManifest(MinecraftServer server) {
+        AlloyForgery.CHANNEL.serverHandle(server).send(current.manifest);
+    }
+
+    public static void handleRequest(GroupRequestPacket packet, ServerAccess access) {
+        final var sync = current;
+        final var groups = new ArrayList<byte[]>();
+
+        // Digests unknown to the current sync data are from before a reload, the new manifest supersedes such
+        for (var digest : packet.digests()) {
+            var group = sync.groupsByDigest.get((long) digest);
+
+            if (group != null) groups.add(group);
+        }
+
+        if (groups.isEmpty()) return;
+
+        AlloyForgery.CHANNEL.serverHandle(access.player()).send(new GroupsPacket(groups));
+    }
+
+    //--
+
+    public static long digest(byte[] group) {
+        return Hashing.murmur3_128().hashBytes(group).asLong();
+    }
+
+    private static byte[] encodeGroup(TagGroup group) {
+        final var buf = PacketByteBufs.create();
+
+        buf.writeIdentifier(group.tag());
+        buf.writeCollection(group.entries(), PacketByteBuf::writeIdentifier);
+
+        final var bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        buf.release();
+
+        return bytes;
+    }
+
+    public static TagGroup decodeGroup(byte[] group) {
+        final var buf = new PacketByteBuf(Unpooled.wrappedBuffer(group));
+
+        return new TagGroup(buf.readIdentifier(), buf.readList(PacketByteBuf::readIdentifier));
+    }
+
+    //--
+
+    public record TagGroup(Identifier tag, List<Identifier> entries) {}
+
+    public record GroupDigest(Identifier tag, long digest) {}
+
+    // Sent to clients on join and after each reload, listing the digest of every tag group
+    public record ManifestPacket(List<GroupDigest> groups) {}
+
+    // Sent by clients for the tag groups they are missing
+    public record GroupRequestPacket(List<Long> digests) {}
+
+    // Encoded tag groups as requested by a client
+    public record GroupsPacket(List<byte[]> groups) {}
+}
@@ -2,28 +2,96 @@ package wraith.alloyforgery.forges;
 
 import com.google.gson.JsonObject;
 import net.minecraft.item.Item;
+import net.minecraft.registry.Registries;
 import net.minecraft.util.JsonHelper;
-import java.util.HashMap;
+import org.jetbrains.annotations.Nullable;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ForgeFuelRegistry {
 
-    private static final Map<Item, ForgeFuelDefinition> REGISTRY = new HashMap<>();
+    // Fuels registered from code, which persist across reloads and are merged below the data driven fuels of each table
+    private static final Map<Item, ForgeFuelDefinition> REGISTERED_FUELS = new ConcurrentHashMap<>();
 
-    public static void clear() {
-        REGISTRY.clear();
+    private static volatile int registeredVersion = 0;
+
+    private static volatile FuelTable fuels = FuelTable.EMPTY;
+
+    /**
+     * Registers a fuel from code, taking effect immediately and being kept within every table built afterwards
+     */
+    public static synchronized void register(Item item, ForgeFuelDefinition fuel) {
+        REGISTERED_FUELS.put(item, fuel);
+        registeredVersion++;
+
+        fuels = FuelTable.of(fuels.dataFuels);
+    }
+
+    /**
+     * Removes all fuels registered from code, leaving those loaded from data
+     */
+    public static synchronized void clear() {
+        REGISTERED_FUELS.clear();
+        registeredVersion++;
+
+        fuels = FuelTable.of(fuels.dataFuels);
     }
 
     public static ForgeFuelDefinition getFuelForItem(Item item) {
-        return REGISTRY.getOrDefault(item, ForgeFuelDefinition.EMPTY);
+        final var fuel = fuels.get(item);
+
+        return fuel != null ? fuel : ForgeFuelDefinition.EMPTY;
     }
 
     public static boolean hasFuel(Item item) {
-        return REGISTRY.containsKey(item);
+        return fuels.get(item) != null;
     }
 
-    public static void register(Item item, ForgeFuelDefinition fuel) {
-        REGISTRY.put(item, fuel);
+    /**
+     * Replaces all data driven fuels with those of the given table
+     */
+    public static synchronized void setFuels(FuelTable table) {
+        // Tables are built off-thread, such are rebuilt if fuels were registered from code in the meantime
+        fuels = table.registeredVersion == registeredVersion ? table : FuelTable.of(table.dataFuels);
+    }
+
+    /**
+     * Fuels indexed by raw item id, never modified once created so that it is safe to read from any thread
+     */
+    public static final class FuelTable {
+
+        public static final FuelTable EMPTY = new FuelTable(Map.of(), new ForgeFuelDefinition[0], 0);
+
+        private final Map<Item, ForgeFuelDefinition> dataFuels;
+        private final ForgeFuelDefinition[] fuelsByRawId;
+        private final int registeredVersion;
+
+        private FuelTable(Map<Item, ForgeFuelDefinition> dataFuels, ForgeFuelDefinition[] fuelsByRawId, int registeredVersion) {
+            this.dataFuels = dataFuels;
+            this.registeredVersion = registeredVersion;
+            this.fuelsByRawId = fuelsByRawId;
+        }
+
+        /**
+         * Builds a table from the given data driven fuels, with any fuels registered from code filling in the rest
+         */
+        public static FuelTable of(Map<Item, ForgeFuelDefinition> fuels) {
+            final int version = registeredVersion;
+            final var dataFuels = Map.copyOf(fuels);
+            final var byRawId = new ForgeFuelDefinition[Registries.ITEM.size()];
+
+            REGISTERED_FUELS.forEach((item, fuel) -> byRawId[Registries.ITEM.getRawId(item)] = fuel);
+            dataFuels.forEach((item, fuel) -> byRawId[Registries.ITEM.getRawId(item)] = fuel);
+
+            return new FuelTable(dataFuels, byRawId, version);
+        }
+
+        @Nullable
+        public ForgeFuelDefinition get(Item item) {
+            final int rawId = Registries.ITEM.getRawId(item);
+
+            return rawId >= 0 && rawId < this.fuelsByRawId.length ? this.fuelsByRawId[rawId] : null;
+        }
     }
 
     public record ForgeFuelDefinition(int fuel, Item returnType) {
@@ -40,6 +40,8 @@ public class ForgeRegistry {
     private static final Set<Block> CONTROLLER_BLOCKS = new HashSet<>();
     private static final Set<Block> CONTROLLER_BLOCKS_VIEW = Collections.unmodifiableSet(CONTROLLER_BLOCKS);
 
+    private static int maxForgeTier = 0;
+
     static void registerDefinition(Identifier forgeDefinitionId, ForgeDefinition definition) {
         final var controllerBlock = new ForgeControllerBlock(definition);
         final var controllerBlockRegistryId = AlloyForgery.id(Registries.BLOCK.getId(definition.material()).getPath() + "_forge_controller");
@@ -72,6 +74,13 @@ public class ForgeRegistry {
         return CONTROLLER_BLOCK_REGISTRY.values().stream().toList();
     }
 
+    /**
+     * @return The highest tier of all registered forge definitions
+     */
+    public static int getMaxForgeTier() {
+        return maxForgeTier;
+    }
+
     public static Set<Block> controllerBlocksView() {
         return CONTROLLER_BLOCKS_VIEW;
     }
@@ -80,6 +89,8 @@ public class ForgeRegistry {
         FORGE_DEFINITION_REGISTRY.put(id, definition);
         CONTROLLER_BLOCK_REGISTRY.put(id, block);
         CONTROLLER_BLOCKS.add(block);
+
+        maxForgeTier = Math.max(maxForgeTier, definition.forgeTier());
     }
 
     public static final class Loader implements ModDataConsumer {
@@ -5,16 +5,18 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonSyntaxException;
 import com.mojang.logging.LogUtils;
 import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
-import net.minecraft.resource.JsonDataLoader;
+import net.minecraft.item.Item;
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 import net.minecraft.util.profiler.Profiler;
 import org.slf4j.Logger;
 import wraith.alloyforgery.AlloyForgery;
+import wraith.alloyforgery.data.ParsingJsonDataLoader;
+import java.util.HashMap;
 import java.util.Map;
 
-public class FuelDataLoader extends JsonDataLoader implements IdentifiableResourceReloadListener {
+public class FuelDataLoader extends ParsingJsonDataLoader<ForgeFuelRegistry.FuelTable> implements IdentifiableResourceReloadListener {
 
     public static final Logger LOGGER = LogUtils.getLogger();
 
@@ -25,18 +27,25 @@ public class FuelDataLoader extends JsonDataLoader implements IdentifiableResour
     }
 
     @Override
-    protected void apply(Map<Identifier, JsonElement> prepared, ResourceManager manager, Profiler profiler) {
-        ForgeFuelRegistry.clear();
+    protected ForgeFuelRegistry.FuelTable parse(Map<Identifier, JsonElement> prepared) {
+        final var fuels = new HashMap<Item, ForgeFuelRegistry.ForgeFuelDefinition>();
 
         prepared.forEach((identifier, jsonElement) -> {
             try {
                 for (var entry : jsonElement.getAsJsonObject().get("fuels").getAsJsonArray()) {
-                    ForgeFuelRegistry.register(JsonHelper.getItem(entry.getAsJsonObject(), "item").value(), ForgeFuelRegistry.ForgeFuelDefinition.fromJson(entry.getAsJsonObject()));
+                    fuels.put(JsonHelper.getItem(entry.getAsJsonObject(), "item").value(), ForgeFuelRegistry.ForgeFuelDefinition.fromJson(entry.getAsJsonObject()));
                 }
             } catch (JsonSyntaxException e){
                 LOGGER.error("An error has occurred during FuelDataLoader stage:", e);
             }
         });
+
+        return ForgeFuelRegistry.FuelTable.of(fuels);
+    }
+
+    @Override
+    protected void apply(ForgeFuelRegistry.FuelTable prepared, ResourceManager manager, Profiler profiler) {
+        ForgeFuelRegistry.setFuels(prepared);
     }
 
     @Override
@@ -10,16 +10,24 @@ import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import wraith.alloyforgery.AlloyForgery;
 import wraith.alloyforgery.recipe.AlloyForgeRecipe;
+import wraith.alloyforgery.recipe.AlloyForgeReloadContext;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 @Mixin(DataPackContents.class)
 public class DataPackContentsMixin {
 
     @Shadow @Final private RecipeManager recipeManager;
 
+    @Inject(method = "reload", at = @At("HEAD"))
+    private static void alloy_forgery$onReload(CallbackInfoReturnable<CompletableFuture<DataPackContents>> cir) {
+        AlloyForgeReloadContext.beginStaging();
+    }
+
     @Inject(method = "refresh", at = @At("TAIL"))
     private void alloy_forgery$onRefresh(DynamicRegistryManager dynamicRegistryManager, CallbackInfo ci) {
         var recipeEntries = recipeManager.listAllOfType(AlloyForgeRecipe.Type.INSTANCE);
@@ -30,7 +38,11 @@ public class DataPackContentsMixin {
             map.put(entry.value(), entry.id());
         }
 
-        AlloyForgeRecipe.PENDING_RECIPES.forEach((recipe, pendingRecipeData) -> recipe.finishRecipe(pendingRecipeData, key -> map.getOrDefault(key, new Identifier(AlloyForgery.MOD_ID, "unknown_recipe"))));
+        AlloyForgeReloadContext.promoteStaged(key -> map.getOrDefault(key, new Identifier(AlloyForgery.MOD_ID, "unknown_recipe")));
+
+        for (var entry : recipeEntries) {
+            entry.value().releaseRawRecipeData();
+        }
     }
 
 }
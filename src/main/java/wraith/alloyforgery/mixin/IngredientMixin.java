@@ -0,0 +1,36 @@
+package wraith.alloyforgery.mixin;
+
+import net.minecraft.recipe.Ingredient;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import wraith.alloyforgery.pond.IngredientKeyHolder;
+import wraith.alloyforgery.pond.IngredientMatcherHolder;
+import wraith.alloyforgery.recipe.IngredientKey;
+import wraith.alloyforgery.recipe.IngredientMatcher;
+
+@Mixin(Ingredient.class)
+public abstract class IngredientMixin implements IngredientKeyHolder, IngredientMatcherHolder {
+
+    @Unique
+    @Nullable
+    private IngredientKey af$ingredientKey = null;
+
+    @Unique
+    @Nullable
+    private IngredientMatcher af$ingredientMatcher = null;
+
+    @Override
+    public IngredientKey af$getIngredientKey() {
+        if (this.af$ingredientKey == null) this.af$ingredientKey = IngredientKey.compute((Ingredient) (Object) this);
+
+        return this.af$ingredientKey;
+    }
+
+    @Override
+    public IngredientMatcher af$getIngredientMatcher() {
+        if (this.af$ingredientMatcher == null) this.af$ingredientMatcher = IngredientMatcher.compile((Ingredient) (Object) this);
+
+        return this.af$ingredientMatcher;
+    }
+}
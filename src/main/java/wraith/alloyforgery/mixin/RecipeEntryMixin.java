@@ -1,16 +1,34 @@
 package wraith.alloyforgery.mixin;
 
-import net.minecraft.recipe.Recipe;
 import net.minecraft.recipe.RecipeEntry;
 import net.minecraft.util.Identifier;
+import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import wraith.alloyforgery.data.RecipeTagLoader;
+import wraith.alloyforgery.data.RecipeTagSnapshot;
 import wraith.alloyforgery.pond.RecipeTagHelper;
 
 @Mixin(RecipeEntry.class)
 public abstract class RecipeEntryMixin implements RecipeTagHelper {
+
+    @Shadow @Final private Identifier id;
+
+    // Held as a single immutable pair as entries may be shared between threads
+    @Unique private RecipeTagSnapshot.RecipeIndex af$tagIndex = null;
+
     @Override
     public boolean isIn(Identifier tag) {
-        return RecipeTagLoader.isWithinTag(tag, ((RecipeEntry<Recipe<?>>) (Object) this));
+        final var snapshot = RecipeTagLoader.resolvedEntries();
+
+        var tagIndex = this.af$tagIndex;
+
+        // Index is interned per snapshot, so it only has to be looked up again once tags are resolved anew
+        if (tagIndex == null || tagIndex.snapshot() != snapshot) {
+            this.af$tagIndex = tagIndex = new RecipeTagSnapshot.RecipeIndex(snapshot, snapshot.indexOf(this.id));
+        }
+
+        return snapshot.isWithinTag(tag, tagIndex.index());
     }
 }
@@ -0,0 +1,29 @@
+package wraith.alloyforgery.mixin;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import wraith.alloyforgery.block.ForgeMultiblockTracker;
+import wraith.alloyforgery.pond.ForgeMultiblockTrackerHolder;
+
+@Mixin(ServerWorld.class)
+public abstract class ServerWorldMixin implements ForgeMultiblockTrackerHolder {
+
+    @Unique
+    private final ForgeMultiblockTracker af$multiblockTracker = new ForgeMultiblockTracker();
+
+    @Inject(method = "onBlockChanged", at = @At("HEAD"))
+    private void alloyForgery$notifyForgeMultiblocks(BlockPos pos, BlockState oldBlock, BlockState newBlock, CallbackInfo ci) {
+        if (oldBlock.getBlock() != newBlock.getBlock()) this.af$multiblockTracker.onBlockChanged(pos);
+    }
+
+    @Override
+    public ForgeMultiblockTracker af$getMultiblockTracker() {
+        return this.af$multiblockTracker;
+    }
+}
@@ -0,0 +1,16 @@
+package wraith.alloyforgery.pond;
+
+import net.minecraft.server.world.ServerWorld;
+import wraith.alloyforgery.block.ForgeMultiblockTracker;
+import wraith.alloyforgery.mixin.ServerWorldMixin;
+
+/**
+ * Helper interface injected into {@link ServerWorld} through {@link ServerWorldMixin}
+ * to hold the worlds {@link ForgeMultiblockTracker}
+ */
+public interface ForgeMultiblockTrackerHolder {
+
+    default ForgeMultiblockTracker af$getMultiblockTracker() {
+        throw new UnsupportedOperationException("ForgeMultiblockTrackerHolder 'af$getMultiblockTracker' method not implemented!");
+    }
+}
@@ -0,0 +1,16 @@
+package wraith.alloyforgery.pond;
+
+import net.minecraft.recipe.Ingredient;
+import wraith.alloyforgery.mixin.IngredientMixin;
+import wraith.alloyforgery.recipe.IngredientKey;
+
+/**
+ * Helper interface injected into {@link Ingredient} through {@link IngredientMixin}
+ * to cache the ingredients {@link IngredientKey}
+ */
+public interface IngredientKeyHolder {
+
+    default IngredientKey af$getIngredientKey() {
+        throw new UnsupportedOperationException("IngredientKeyHolder 'af$getIngredientKey' method not implemented!");
+    }
+}
@@ -0,0 +1,16 @@
+package wraith.alloyforgery.pond;
+
+import net.minecraft.recipe.Ingredient;
+import wraith.alloyforgery.mixin.IngredientMixin;
+import wraith.alloyforgery.recipe.IngredientMatcher;
+
+/**
+ * Helper interface injected into {@link Ingredient} through {@link IngredientMixin}
+ * to cache the ingredients compiled {@link IngredientMatcher}
+ */
+public interface IngredientMatcherHolder {
+
+    default IngredientMatcher af$getIngredientMatcher() {
+        throw new UnsupportedOperationException("IngredientMatcherHolder 'af$getIngredientMatcher' method not implemented!");
+    }
+}
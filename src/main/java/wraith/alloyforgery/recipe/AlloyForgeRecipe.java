@@ -5,7 +5,6 @@ import com.google.gson.JsonSyntaxException;
 import io.wispforest.owo.serialization.Endec;
 import io.wispforest.owo.serialization.endec.StructEndecBuilder;
 import io.wispforest.owo.util.RecipeRemainderStorage;
-import it.unimi.dsi.fastutil.ints.Int2IntLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import net.minecraft.inventory.Inventory;
 import net.minecraft.item.*;
@@ -21,21 +20,18 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import wraith.alloyforgery.AlloyForgery;
 import wraith.alloyforgery.block.ForgeControllerBlockEntity;
+import wraith.alloyforgery.forges.ForgeRegistry;
 import java.util.*;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public class AlloyForgeRecipe implements Recipe<Inventory> {
 
-    private static final Map<Item, ItemStack> GLOBAL_REMAINDERS = new HashMap<>();
+    private static final ThreadLocal<SlotBinding> SCRATCH_BINDING = ThreadLocal.withInitial(SlotBinding::new);
 
-    private static final List<Integer> INPUT_SLOT_INDICES = IntStream.rangeClosed(0, 9).boxed().toList();
-
-    public static final Map<AlloyForgeRecipe, PendingRecipeData> PENDING_RECIPES = new HashMap<>();
-
-    public final Optional<RawAlloyForgeRecipe> rawRecipeData;
+    // Dropped once the recipe is finished, with the human-readable form being rebuilt from the finished fields
+    private Optional<RawAlloyForgeRecipe> rawRecipeData;
+    private boolean rawRecipeDataReleased = false;
 
     /**
      * Used for Recipes that were adapted to Alloy Forge Recipes instead of created from scratch.
@@ -44,6 +40,17 @@ public class AlloyForgeRecipe implements Recipe<Inventory> {
     private Optional<Identifier> secondaryID = Optional.empty();
 
     private final Map<Ingredient, Integer> inputs;
+
+    private final Ingredient[] ingredients;
+    private final int[] ingredientCounts;
+
+    // Totals used to reject inventories without testing any ingredient
+    private final int totalInputCount;
+    private final int requiredSlots;
+
+    @Nullable
+    private IngredientMatcher[] matchers = null;
+
     private ItemStack output;
 
     private final int minForgeTier;
@@ -51,15 +58,38 @@ public class AlloyForgeRecipe implements Recipe<Inventory> {
 
     private ImmutableMap<OverrideRange, ItemStack> tierOverrides;
 
+    // Result for each tier up to the highest registered forge tier with overrides applied, must not be modified
+    private ItemStack[] resultsByTier;
+
     public AlloyForgeRecipe(Optional<RawAlloyForgeRecipe> rawRecipeData, Map<Ingredient, Integer> inputs, ItemStack output, int minForgeTier, int fuelPerTick, Map<OverrideRange, ItemStack> overrides) {
         this.rawRecipeData = rawRecipeData;
 
         this.inputs = inputs;
+
+        this.ingredients = new Ingredient[inputs.size()];
+        this.ingredientCounts = new int[inputs.size()];
+
+        int i = 0, totalInputCount = 0, requiredSlots = 0;
+
+        for (var entry : inputs.entrySet()) {
+            this.ingredients[i] = entry.getKey();
+            this.ingredientCounts[i] = entry.getValue();
+
+            totalInputCount += entry.getValue();
+            if (entry.getValue() > 0) requiredSlots++;
+
+            i++;
+        }
+
+        this.totalInputCount = totalInputCount;
+        this.requiredSlots = requiredSlots;
+
         this.output = output;
         this.minForgeTier = minForgeTier;
         this.fuelPerTick = fuelPerTick;
 
         this.tierOverrides = ImmutableMap.copyOf(overrides);
+        this.resultsByTier = this.resolveTierResults();
     }
 
     public AlloyForgeRecipe(Map<Ingredient, Integer> inputs, ItemStack output, int minForgeTier, int fuelPerTick, Map<OverrideRange, ItemStack> overrides, Optional<Identifier> secondaryID) {
@@ -72,6 +102,32 @@ public class AlloyForgeRecipe implements Recipe<Inventory> {
         return this.secondaryID;
     }
 
+    /**
+     * @return The raw data the recipe was created from, or once released a form rebuilt from the finished recipe
+     * which holds the resolved output and overrides in place of any priority list, tag or count only override
+     */
+    public Optional<RawAlloyForgeRecipe> rawRecipeData() {
+        if (!this.rawRecipeDataReleased) return this.rawRecipeData;
+
+        final var overrideData = new LinkedHashMap<OverrideRange, PendingOverride>();
+
+        this.tierOverrides.forEach((range, stack) -> overrideData.put(range, PendingOverride.ofItem(stack.getItem(), stack.getCount())));
+
+        return Optional.of(new RawAlloyForgeRecipe(this.inputs, new OutputData(this.output.getCount(), this.output.getItem(), null, null), this.minForgeTier, this.fuelPerTick, overrideData));
+    }
+
+    /**
+     * Drops the raw data of the recipe as the finished fields hold all that is required past this point,
+     * called once the recipe has been finished after a reload
+     */
+    @ApiStatus.Internal
+    public void releaseRawRecipeData() {
+        if (this.rawRecipeData.isEmpty()) return;
+
+        this.rawRecipeData = Optional.empty();
+        this.rawRecipeDataReleased = true;
+    }
+
     public void finishRecipe(PendingRecipeData pendingData, Function<AlloyForgeRecipe, Identifier> lookup) {
         if (pendingData.defaultTag() != null) {
             final var itemEntryList = Registries.ITEM.getEntryList(pendingData.defaultTag().getLeft());
@@ -98,10 +154,7 @@ public class AlloyForgeRecipe implements Recipe<Inventory> {
         });
 
         this.tierOverrides = overrides.build();
-    }
-
-    public static void addRemainders(Map<Item, ItemStack> remainders) {
-        GLOBAL_REMAINDERS.putAll(remainders);
+        this.resultsByTier = this.resolveTierResults();
     }
 
     @Override
@@ -111,48 +164,110 @@ public class AlloyForgeRecipe implements Recipe<Inventory> {
 
     @Override
     public boolean matches(Inventory inventory, World world) {
-        return tryBind(inventory) != null;
+        return bind(inventory, SCRATCH_BINDING.get());
     }
 
-    public Int2IntMap tryBind(Inventory inventory) {
-        var indices = new ConcurrentLinkedQueue<>(INPUT_SLOT_INDICES);
-        var boundSlots = new Int2IntLinkedOpenHashMap();
+    /**
+     * @param totalCount  Total item count within the input slots of an inventory
+     * @param filledSlots Amount of non-empty input slots within such inventory
+     * @return false if the recipe is unable to match an inventory with the given totals
+     */
+    public boolean canFit(int totalCount, int filledSlots) {
+        return totalCount >= this.totalInputCount && filledSlots >= this.requiredSlots;
+    }
+
+    /**
+     * Attempts to bind each ingredient to the input slots of the given inventory, with such slots
+     * being taken in order until the required count is met
+     *
+     * @param binding Binding to store the result within, cleared if unable to bind
+     * @return true if every ingredient was bound and all remaining filled slots are accepted by the recipe
+     */
+    public boolean bind(Inventory inventory, SlotBinding binding) {
+        binding.clear();
 
-        for (var ingredient : this.inputs.entrySet()) {
-            int remaining = ingredient.getValue();
+        var matchers = this.compiledMatchers();
 
-            for (int index : indices) {
-                var stack = inventory.getStack(index);
+        int freeSlots = SlotBinding.ALL_INPUT_SLOTS;
 
-                if (ingredient.getKey().test(stack)) {
-                    boundSlots.put(index, Math.min(stack.getCount(), remaining));
-                    indices.remove(index);
+        for (int i = 0; i < matchers.length; i++) {
+            var matcher = matchers[i];
+            int remaining = this.ingredientCounts[i];
 
-                    remaining -= stack.getCount();
-                    if (remaining <= 0) break;
-                }
+            for (int mask = freeSlots; mask != 0; mask &= mask - 1) {
+                int slot = Integer.numberOfTrailingZeros(mask);
+                var stack = inventory.getStack(slot);
+
+                if (!matcher.test(stack)) continue;
+
+                binding.bind(slot, Math.min(stack.getCount(), remaining));
+                freeSlots &= ~(1 << slot);
+
+                remaining -= stack.getCount();
+                if (remaining <= 0) break;
             }
 
             if (remaining > 0) {
-                return null;
+                binding.clear();
+
+                return false;
             }
         }
 
-        verification:
-        for (int index : indices) {
-            var stack = inventory.getStack(index);
-            if (stack.isEmpty()) continue;
+        for (int mask = freeSlots; mask != 0; mask &= mask - 1) {
+            var stack = inventory.getStack(Integer.numberOfTrailingZeros(mask));
 
-            for (var ingredient : this.inputs.keySet()) {
-                if (ingredient.test(stack)) {
-                    continue verification;
-                }
+            if (stack.isEmpty() || acceptsAny(matchers, stack)) continue;
+
+            binding.clear();
+
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean acceptsAny(IngredientMatcher[] matchers, ItemStack stack) {
+        for (var matcher : matchers) {
+            if (matcher.test(stack)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Compiles the recipes ingredients into {@link IngredientMatcher}s if not done already,
+     * which must only happen once tags have been bound
+     */
+    public void compileIngredients() {
+        this.compiledMatchers();
+    }
+
+    private IngredientMatcher[] compiledMatchers() {
+        var matchers = this.matchers;
+
+        if (matchers == null) {
+            matchers = new IngredientMatcher[this.ingredients.length];
+
+            for (int i = 0; i < this.ingredients.length; i++) {
+                matchers[i] = IngredientMatcher.of(this.ingredients[i]);
             }
 
-            return null;
+            this.matchers = matchers;
         }
 
-        return boundSlots;
+        return matchers;
+    }
+
+    /**
+     * @return A map of the bound slots to consumed amount or null if unable to bind
+     * @see #bind(Inventory, SlotBinding)
+     */
+    @Nullable
+    public Int2IntMap tryBind(Inventory inventory) {
+        var binding = SCRATCH_BINDING.get();
+
+        return bind(inventory, binding) ? binding.toMap() : null;
     }
 
     @SuppressWarnings("SuspiciousToArrayCall")
@@ -183,37 +298,69 @@ public class AlloyForgeRecipe implements Recipe<Inventory> {
     }
 
     public void consumeIngredients(Inventory inventory) {
-        this.tryBind(inventory).forEach(inventory::removeStack);
+        var binding = SCRATCH_BINDING.get();
+
+        if (!this.bind(inventory, binding)) return;
+
+        for (int mask = binding.boundMask(); mask != 0; mask &= mask - 1) {
+            int slot = Integer.numberOfTrailingZeros(mask);
+
+            inventory.removeStack(slot, binding.count(slot));
+        }
     }
 
     @Nullable
     public static DefaultedList<ItemStack> gatherRemainders(RecipeEntry<AlloyForgeRecipe> recipeEntry, Inventory inventory) {
-        final var recipe = recipeEntry.value();
+        var binding = SCRATCH_BINDING.get();
+
+        if (!recipeEntry.value().bind(inventory, binding)) return null;
+
+        final var slotRemainders = new ItemStack[SlotBinding.INPUT_SLOTS];
+
+        if (!resolveRemainders(recipeEntry, inventory, binding, slotRemainders)) return null;
+
         final var remainders = DefaultedList.ofSize(inventory.size(), ItemStack.EMPTY);
+
+        for (int i = 0; i < slotRemainders.length; i++) {
+            remainders.set(i, slotRemainders[i]);
+        }
+
+        return remainders;
+    }
+
+    /**
+     * Fills the given array with the remainders for the items within each bound slot, with all other slots set to empty
+     *
+     * @return true if any remainders were found
+     */
+    static boolean resolveRemainders(RecipeEntry<AlloyForgeRecipe> recipeEntry, Inventory inventory, SlotBinding binding, ItemStack[] remainders) {
+        Arrays.fill(remainders, ItemStack.EMPTY);
+
         //noinspection UnstableApiUsage
         final var owoRemainders = RecipeRemainderStorage.has(recipeEntry.id()) ? RecipeRemainderStorage.get(recipeEntry.id()) : Map.<Item, ItemStack>of();
 
-        if (owoRemainders.isEmpty() && GLOBAL_REMAINDERS.isEmpty()) return null;
+        final var globalRemainders = AlloyForgeReloadContext.active().remainders();
+
+        if (owoRemainders.isEmpty() && globalRemainders.isEmpty()) return false;
 
         var setAnyRemainders = false;
 
-        for (int i : recipe.tryBind(inventory).keySet()) {
+        for (int mask = binding.boundMask(); mask != 0; mask &= mask - 1) {
+            int i = Integer.numberOfTrailingZeros(mask);
             var item = inventory.getStack(i).getItem();
 
-            if (!owoRemainders.isEmpty()) {
-                if (!owoRemainders.containsKey(item)) continue;
+            var remainder = !owoRemainders.isEmpty()
+                    ? owoRemainders.get(item)
+                    : globalRemainders.get(item);
 
-                remainders.set(i, owoRemainders.get(item).copy());
+            if (remainder == null) continue;
 
-                setAnyRemainders = true;
-            } else if (GLOBAL_REMAINDERS.containsKey(item)) {
-                remainders.set(i, GLOBAL_REMAINDERS.get(item).copy());
+            remainders[i] = remainder.copy();
 
-                setAnyRemainders = true;
-            }
+            setAnyRemainders = true;
         }
 
-        return setAnyRemainders ? remainders : null;
+        return setAnyRemainders;
     }
 
     @Override
@@ -238,11 +385,40 @@ public class AlloyForgeRecipe implements Recipe<Inventory> {
     }
 
     public ItemStack getResult(int forgeTier) {
-        ItemStack stack = tierOverrides.getOrDefault(tierOverrides.keySet().stream()
-                        .filter(overrideRange -> overrideRange.test(forgeTier))
-                        .findAny()
-                        .orElse(null), output)
-                .copy();
+        return getResultView(forgeTier).copy();
+    }
+
+    /**
+     * Version of {@link #getResult(int)} that returns the resolved result without copying,
+     * useful for comparisons. <b>The returned stack must not be modified</b>
+     */
+    @ApiStatus.Internal
+    public ItemStack getResultView(int forgeTier) {
+        return (forgeTier >= 0 && forgeTier < this.resultsByTier.length)
+                ? this.resultsByTier[forgeTier]
+                : this.resolveResult(forgeTier);
+    }
+
+    private ItemStack[] resolveTierResults() {
+        final var results = new ItemStack[ForgeRegistry.getMaxForgeTier() + 1];
+
+        for (int tier = 0; tier < results.length; tier++) {
+            results[tier] = this.resolveResult(tier);
+        }
+
+        return results;
+    }
+
+    private ItemStack resolveResult(int forgeTier) {
+        ItemStack stack = this.output;
+
+        for (var entry : this.tierOverrides.entrySet()) {
+            if (entry.getKey().test(forgeTier)) {
+                stack = entry.getValue();
+
+                break;
+            }
+        }
 
         if (stack.getItem() == Items.AIR) {
             int stackCount = stack.getCount();
@@ -0,0 +1,209 @@
+package wraith.alloyforgery.recipe;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.recipe.Ingredient;
+import net.minecraft.recipe.Recipe;
+import net.minecraft.recipe.RecipeEntry;
+import net.minecraft.recipe.RecipeManager;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.World;
+import wraith.alloyforgery.mixin.RecipeManagerAccessor;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Lookup from {@link Item} to every {@link AlloyForgeRecipe} with an ingredient able to accept such,
+ * used in place of the linear scan done by {@link RecipeManager#getFirstMatch}.
+ * <p/>
+ * As every filled input slot must be bound to one of the recipes ingredients, only recipes indexed
+ * under the item within the first filled slot are able to match. Candidates are ordered by their minimum
+ * forge tier, letting a forge stop searching once past its own tier. The index is rebuilt whenever the
+ * {@link RecipeManager} recipe map is replaced, be it from a reload or from {@link wraith.alloyforgery.utils.RecipeInjector}
+ */
+public final class AlloyForgeRecipeIndex {
+
+    private static final int[] NO_CANDIDATES = new int[0];
+
+    private static AlloyForgeRecipeIndex current = null;
+
+    private final Map<RecipeType<?>, Map<Identifier, RecipeEntry<Recipe<?>>>> source;
+
+    // Sorted by minimum forge tier with the manager order kept within each tier
+    private final RecipeEntry<AlloyForgeRecipe>[] recipes;
+    private final int[] minTiers;
+    private final Map<Item, int[]> candidatesByItem;
+
+    // Recipes containing custom ingredients which are unable to list the items they accept, always tested
+    private final int[] unindexedCandidates;
+
+    private final MatchResultCache matchResults = new MatchResultCache();
+
+    @SuppressWarnings("unchecked")
+    private AlloyForgeRecipeIndex(Map<RecipeType<?>, Map<Identifier, RecipeEntry<Recipe<?>>>> source) {
+        this.source = source;
+
+        var recipeMap = source.getOrDefault(AlloyForgeRecipe.Type.INSTANCE, Map.of());
+
+        this.recipes = recipeMap.values().toArray(RecipeEntry[]::new);
+
+        Arrays.sort(this.recipes, Comparator.comparingInt(entry -> entry.value().getMinForgeTier()));
+
+        this.minTiers = new int[this.recipes.length];
+
+        for (int ordinal = 0; ordinal < this.recipes.length; ordinal++) {
+            this.minTiers[ordinal] = this.recipes[ordinal].value().getMinForgeTier();
+        }
+
+        var candidates = new Reference2ObjectOpenHashMap<Item, IntArrayList>();
+        var unindexed = new IntArrayList();
+
+        for (int ordinal = 0; ordinal < this.recipes.length; ordinal++) {
+            var recipe = this.recipes[ordinal].value();
+            var ingredients = recipe.getIngredientsMap().keySet();
+
+            // Compiled here as the index is built after tags are bound and away from the tick
+            recipe.compileIngredients();
+
+            if (ingredients.stream().anyMatch(AlloyForgeRecipeIndex::isUnindexable)) {
+                unindexed.add(ordinal);
+
+                continue;
+            }
+
+            for (var ingredient : ingredients) {
+                for (var stack : ingredient.getMatchingStacks()) {
+                    var ordinals = candidates.computeIfAbsent(stack.getItem(), item -> new IntArrayList());
+
+                    if (ordinals.isEmpty() || ordinals.getInt(ordinals.size() - 1) != ordinal) ordinals.add(ordinal);
+                }
+            }
+        }
+
+        this.candidatesByItem = new Reference2ObjectOpenHashMap<>(candidates.size());
+
+        candidates.forEach((item, ordinals) -> this.candidatesByItem.put(item, ordinals.toIntArray()));
+
+        this.unindexedCandidates = unindexed.toIntArray();
+    }
+
+    /**
+     * @return The index for the given manager's current recipes, building a new one if such have changed
+     */
+    public static AlloyForgeRecipeIndex of(RecipeManager manager) {
+        var recipes = ((RecipeManagerAccessor) manager).af$getRecipes();
+
+        var index = current;
+
+        if (index == null || index.source != recipes) {
+            current = index = new AlloyForgeRecipeIndex(recipes);
+        }
+
+        return index;
+    }
+
+    /**
+     * Equivalent to {@link RecipeManager#getFirstMatch} for {@link AlloyForgeRecipe.Type} but only testing
+     * recipes indexed under the item within the first filled input slot and craftable by a forge of the
+     * given tier, which leaves the given plan prepared for the matched recipe, or cleared if none was found.
+     * <p/>
+     * Results are shared between all inventories with the same input slot contents and tier till the index is replaced
+     */
+    public Optional<RecipeEntry<AlloyForgeRecipe>> getFirstMatch(Inventory inventory, int forgeTier, ForgingPlan plan) {
+        var signature = MatchResultCache.InputSignature.of(inventory, forgeTier);
+        var cachedMatch = this.matchResults.get(signature);
+
+        if (cachedMatch != null) {
+            if (cachedMatch.isEmpty()) {
+                plan.clear();
+
+                return cachedMatch;
+            }
+
+            if (plan.prepare(cachedMatch.get(), inventory)) return cachedMatch;
+        }
+
+        var match = findFirst(inventory, Integer.MIN_VALUE, forgeTier, entry -> plan.prepare(entry, inventory));
+
+        if (match.isEmpty()) plan.clear();
+
+        this.matchResults.put(signature, match);
+
+        return match;
+    }
+
+    /**
+     * @return The first recipe matching the given inventory which requires a forge of a higher tier than the
+     * given tier, used to show the tier required to craft such
+     */
+    public Optional<RecipeEntry<AlloyForgeRecipe>> getFirstMatchAboveTier(Inventory inventory, int forgeTier, World world) {
+        return findFirst(inventory, forgeTier, Integer.MAX_VALUE, entry -> entry.value().matches(inventory, world));
+    }
+
+    // Only tests candidates with a minimum tier above the lower and up to the upper tier
+    private Optional<RecipeEntry<AlloyForgeRecipe>> findFirst(Inventory inventory, int aboveTier, int upToTier, Predicate<RecipeEntry<AlloyForgeRecipe>> matcher) {
+        Item key = null;
+        int totalCount = 0, filledSlots = 0;
+
+        for (int i = 0; i < SlotBinding.INPUT_SLOTS; i++) {
+            var stack = inventory.getStack(i);
+
+            if (stack.isEmpty()) continue;
+
+            if (key == null) key = stack.getItem();
+
+            totalCount += stack.getCount();
+            filledSlots++;
+        }
+
+        if (key == null) return Optional.empty();
+
+        var indexed = this.candidatesByItem.getOrDefault(key, NO_CANDIDATES);
+        var unindexed = this.unindexedCandidates;
+
+        // Merge both candidate lists to keep the ordering of the sorted recipes
+        int i = this.firstAboveTier(indexed, aboveTier), j = this.firstAboveTier(unindexed, aboveTier);
+
+        while (i < indexed.length || j < unindexed.length) {
+            int ordinal = (j >= unindexed.length || (i < indexed.length && indexed[i] < unindexed[j]))
+                    ? indexed[i++]
+                    : unindexed[j++];
+
+            if (this.minTiers[ordinal] > upToTier) break;
+
+            var entry = this.recipes[ordinal];
+
+            // Rejects recipes requiring more items or slots than present before testing any ingredient
+            if (!entry.value().canFit(totalCount, filledSlots)) continue;
+
+            if (matcher.test(entry)) return Optional.of(entry);
+        }
+
+        return Optional.empty();
+    }
+
+    // Ordinals are sorted by tier, so the first candidate above the tier is found through a binary search
+    private int firstAboveTier(int[] ordinals, int tier) {
+        int low = 0, high = ordinals.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (this.minTiers[ordinals[mid]] > tier) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        return low;
+    }
+
+    // Custom ingredients without any matching stacks give no items to be indexed under
+    private static boolean isUnindexable(Ingredient ingredient) {
+        return ingredient.getCustomIngredient() != null && ingredient.getMatchingStacks().length == 0;
+    }
+}
@@ -11,7 +11,7 @@ public class AlloyForgeRecipeSerializer extends EndecRecipeSerializer<AlloyForge
     public static final StructEndec<AlloyForgeRecipe> RECIPE_ENDEC = new StructEndec<>() {
         @Override
         public void encodeStruct(Serializer.Struct struct, AlloyForgeRecipe recipe) {
-            var rawData = recipe.rawRecipeData.orElseThrow(() -> new IllegalStateException("Unable to serialize Recipe due to not having the required RawRecipeData!"));
+            var rawData = recipe.rawRecipeData().orElseThrow(() -> new IllegalStateException("Unable to serialize Recipe due to not having the required RawRecipeData!"));
 
             RawAlloyForgeRecipe.ENDEC.encodeStruct(struct, rawData);
         }
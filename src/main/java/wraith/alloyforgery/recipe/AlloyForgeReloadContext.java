@@ -0,0 +1,93 @@
+package wraith.alloyforgery.recipe;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.Ingredient;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Holder for the tables built by a single data pack reload. A new context is staged once a reload starts
+ * filling it and replaces the active one as a whole once the reload is finished, leaving nothing which
+ * references recipes of previous reloads.
+ */
+public final class AlloyForgeReloadContext {
+
+    private static volatile AlloyForgeReloadContext active = new AlloyForgeReloadContext();
+
+    @Nullable
+    private static AlloyForgeReloadContext staged = null;
+
+    private Map<Item, ItemStack> remainders = Map.of();
+
+    // Structurally equal ingredients across all forging recipes of the reload, dropped once staging finishes
+    // as only the recipes created within such need to share instances
+    @Nullable
+    private volatile IngredientInterner ingredients = new IngredientInterner();
+
+    // Recipes awaiting tags to be bound before their output can be resolved, emptied once staging finishes
+    private final Map<AlloyForgeRecipe, AlloyForgeRecipe.PendingRecipeData> pendingRecipes = new IdentityHashMap<>();
+
+    private AlloyForgeReloadContext() {}
+
+    /**
+     * @return The context of the last finished reload
+     */
+    public static AlloyForgeReloadContext active() {
+        return active;
+    }
+
+    /**
+     * Starts a new staged context for a reload that is starting, dropping anything left staged by a failed reload
+     */
+    public static synchronized void beginStaging() {
+        staged = new AlloyForgeReloadContext();
+    }
+
+    /**
+     * @return The context being filled by the current reload, created if such is not present
+     */
+    public static synchronized AlloyForgeReloadContext staged() {
+        if (staged == null) staged = new AlloyForgeReloadContext();
+
+        return staged;
+    }
+
+    /**
+     * Finishes all pending recipes of the staged context before making such the active context
+     */
+    public static synchronized void promoteStaged(Function<AlloyForgeRecipe, Identifier> lookup) {
+        final var context = staged();
+
+        context.pendingRecipes.forEach((recipe, pendingData) -> recipe.finishRecipe(pendingData, lookup));
+        context.pendingRecipes.clear();
+        context.ingredients = null;
+
+        staged = null;
+        active = context;
+    }
+
+    public Map<Item, ItemStack> remainders() {
+        return this.remainders;
+    }
+
+    public void setRemainders(Map<Item, ItemStack> remainders) {
+        this.remainders = remainders;
+    }
+
+    /**
+     * @return The first ingredient of this reload equal to the given ingredient, or the given ingredient once staging finished
+     */
+    public Ingredient internIngredient(Ingredient ingredient) {
+        final var ingredients = this.ingredients;
+
+        return ingredients != null ? ingredients.intern(ingredient) : ingredient;
+    }
+
+    public synchronized void addPendingRecipe(AlloyForgeRecipe recipe, AlloyForgeRecipe.PendingRecipeData pendingData) {
+        this.pendingRecipes.put(recipe, pendingData);
+    }
+}
@@ -1,6 +1,7 @@
 package wraith.alloyforgery.recipe;
 
 import com.google.common.collect.ImmutableMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.recipe.*;
@@ -12,9 +13,7 @@ import wraith.alloyforgery.AlloyForgery;
 import wraith.alloyforgery.data.RecipeTagLoader;
 import wraith.alloyforgery.forges.ForgeDefinition;
 import wraith.alloyforgery.utils.RecipeInjector;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * Adapter class that takes advantage of {@link RecipeInjector}
@@ -34,92 +33,95 @@ public class BlastFurnaceRecipeAdapter implements RecipeInjector.AddRecipes {
      */
     public static final Identifier BLACKLISTED_INCREASED_OUTPUT = AlloyForgery.id("blacklisted_increased_blasting_outputs");
 
+    // Blasting recipes adapted to the same id are ordered by their original id, with the last of such being kept
+    private static final Comparator<RecipeEntry<AlloyForgeRecipe>> ADAPTED_RECIPE_ORDER = Comparator.<RecipeEntry<AlloyForgeRecipe>, Identifier>comparing(RecipeEntry::id)
+            .thenComparing(entry -> entry.value().secondaryID().orElseThrow());
+
     @Override
     public void addRecipes(RecipeInjector instance) {
         if(!AlloyForgery.CONFIG.allowBlastingFurnaceAdaption()) return;
 
         var manager = instance.manager();
 
-        List<RecipeEntry<AlloyForgeRecipe>> alloyForgeryRecipes = manager.listAllOfType(AlloyForgeRecipe.Type.INSTANCE);
+        var forgingInputs = ForgingInputIndex.of(manager.listAllOfType(AlloyForgeRecipe.Type.INSTANCE));
 
-        for (RecipeEntry<BlastingRecipe> recipeEntry : manager.listAllOfType(RecipeType.BLASTING)) {
-            var recipe = recipeEntry.value();
+        // Adapted inputs share the instances of equal forging inputs, with the table being dropped once done
+        var interner = new IngredientInterner();
 
-            if (!isUniqueRecipe(alloyForgeryRecipes, recipe) || RecipeTagLoader.isWithinTag(BLACKLISTED_BLASTING_RECIPES, recipeEntry)) continue;
+        for (var recipeEntry : manager.listAllOfType(AlloyForgeRecipe.Type.INSTANCE)) {
+            recipeEntry.value().getIngredientsMap().keySet().forEach(interner::intern);
+        }
 
-            var secondaryID = recipeEntry.id();
-            var path = secondaryID.getPath();
+        var adaptedRecipes = new ArrayList<RecipeEntry<AlloyForgeRecipe>>();
 
-            if (path.contains("blasting")) {
-                path = path.replace("blasting", "forging");
-            }
+        for (var recipeEntry : manager.listAllOfType(RecipeType.BLASTING)) {
+            if (RecipeTagLoader.isWithinTag(BLACKLISTED_BLASTING_RECIPES, recipeEntry)) continue;
 
-            var mainOutput = recipe.getResult(null).copy();
+            var ingredient = recipeEntry.value().getIngredients().get(0);
+            var stacks = ingredient.getMatchingStacks();
 
-            mainOutput.setCount(AlloyForgery.CONFIG.baseInputAmount());
+            if (!forgingInputs.isUnique(stacks)) continue;
 
-            var extraOutput = ImmutableMap.<AlloyForgeRecipe.OverrideRange, ItemStack>builder();
-
-            if (AlloyForgery.CONFIG.allowHigherTierOutput() && !RecipeTagLoader.isWithinTag(BLACKLISTED_INCREASED_OUTPUT, recipeEntry) && !isDustRecipe(recipeEntry)) {
-                var increasedOutput = mainOutput.copy();
+            adaptedRecipes.add(adaptRecipe(recipeEntry, interner.intern(ingredient), stacks));
+        }
 
-                increasedOutput.increment(AlloyForgery.CONFIG.higherTierOutputIncrease());
+        // Results are added in a deterministic order as the last recipe adapted to a given id is kept
+        adaptedRecipes.sort(ADAPTED_RECIPE_ORDER);
 
-                extraOutput.put(new AlloyForgeRecipe.OverrideRange(3), increasedOutput);
-            }
+        for (var adaptedRecipe : adaptedRecipes) {
+            instance.addRecipe(adaptedRecipe.id(), adaptedRecipe.value());
+        }
+    }
 
-            var recipeId = AlloyForgery.id(path);
+    private static RecipeEntry<AlloyForgeRecipe> adaptRecipe(RecipeEntry<BlastingRecipe> recipeEntry, Ingredient ingredient, ItemStack[] stacks) {
+        var recipe = recipeEntry.value();
 
-            var convertRecipe = new AlloyForgeRecipe(
-                    Map.of(recipe.getIngredients().get(0), AlloyForgery.CONFIG.baseInputAmount()),
-                    mainOutput,
-                    1,
-                    Math.round(getFuelPerTick(recipe)),
-                    extraOutput.build(),
-                    Optional.of(secondaryID));
+        var secondaryID = recipeEntry.id();
+        var path = secondaryID.getPath();
 
-            instance.addRecipe(recipeId, convertRecipe);
+        if (path.contains("blasting")) {
+            path = path.replace("blasting", "forging");
         }
-    }
 
-    private static float getFuelPerTick(BlastingRecipe recipe) {
-        return ((recipe.getCookingTime() / (float) ForgeDefinition.BASE_MAX_SMELT_TIME) * 10);
-    }
+        var mainOutput = recipe.getResult(null).copy();
+
+        mainOutput.setCount(AlloyForgery.CONFIG.baseInputAmount());
 
-    // Checks if the given blast recipe has unique inputs to prevent overlapping recipes leading to confliction
-    private static boolean isUniqueRecipe(List<RecipeEntry<AlloyForgeRecipe>> alloyForgeryRecipes, Recipe<?> blastRecipe) {
-        ItemStack[] stacks = blastRecipe.getIngredients().get(0).getMatchingStacks();
+        var extraOutput = ImmutableMap.<AlloyForgeRecipe.OverrideRange, ItemStack>builder();
 
-        List<RecipeEntry<AlloyForgeRecipe>> matchedRecipes = alloyForgeryRecipes.stream()
-                .filter(recipeEntry -> {
-                    var recipe = recipeEntry.value();
+        if (AlloyForgery.CONFIG.allowHigherTierOutput() && !RecipeTagLoader.isWithinTag(BLACKLISTED_INCREASED_OUTPUT, recipeEntry) && !isDustRecipe(recipeEntry.id(), stacks)) {
+            var increasedOutput = mainOutput.copy();
 
-                    if (recipe.getIngredientsMap().size() > 1) return false;
+            increasedOutput.increment(AlloyForgery.CONFIG.higherTierOutputIncrease());
+
+            extraOutput.put(new AlloyForgeRecipe.OverrideRange(3), increasedOutput);
+        }
 
-                    for (ItemStack stack : stacks) {
-                        if (recipe.getIngredients().get(0).test(stack)) {
-                            return true;
-                        }
-                    }
+        var recipeId = AlloyForgery.id(path);
 
-                    return false;
-                }).toList();
+        var convertRecipe = new AlloyForgeRecipe(
+                Map.of(ingredient, AlloyForgery.CONFIG.baseInputAmount()),
+                mainOutput,
+                1,
+                Math.round(getFuelPerTick(recipe)),
+                extraOutput.build(),
+                Optional.of(secondaryID));
 
-        return matchedRecipes.isEmpty();
+        return new RecipeEntry<>(recipeId, convertRecipe);
+    }
+
+    private static float getFuelPerTick(BlastingRecipe recipe) {
+        return ((recipe.getCookingTime() / (float) ForgeDefinition.BASE_MAX_SMELT_TIME) * 10);
     }
 
     // Prevent duplication of dust output leading to infinite resource loops by blacklisting using the given filter
     // 1. Check if recipe name contains "dust"
     // 2. Check if the item is within the "c:dusts" tag
     // 3. Check if any input items have Identifiers containing "dust" within the path
-    private static boolean isDustRecipe(RecipeEntry<BlastingRecipe> blastingRecipeEntry) {
-        if (blastingRecipeEntry.id().getPath().contains("dust")) return true;
+    private static boolean isDustRecipe(Identifier blastingRecipeId, ItemStack[] inputStacks) {
+        if (blastingRecipeId.getPath().contains("dust")) return true;
 
-        var blastRecipe = blastingRecipeEntry.value();
-
-        var inputIngredient = blastRecipe.getIngredients().get(0);
-
-        for (ItemStack stack : inputIngredient.getMatchingStacks()) {
+        for (ItemStack stack : inputStacks) {
             if (stack.isIn(DUSTS_TAG)) return true;
 
             Identifier id = Registries.ITEM.getId(stack.getItem());
@@ -129,4 +131,45 @@ public class BlastFurnaceRecipeAdapter implements RecipeInjector.AddRecipes {
 
         return false;
     }
+
+    /**
+     * Index of the items accepted by every single ingredient {@link AlloyForgeRecipe}, used to check if a given
+     * blast recipe has unique inputs to prevent overlapping recipes leading to confliction
+     */
+    private record ForgingInputIndex(Set<Item> acceptedItems, List<Ingredient> testedIngredients) {
+
+        private static ForgingInputIndex of(List<RecipeEntry<AlloyForgeRecipe>> alloyForgeryRecipes) {
+            final var acceptedItems = new ReferenceOpenHashSet<Item>();
+            final var testedIngredients = new ArrayList<Ingredient>();
+
+            for (var recipeEntry : alloyForgeryRecipes) {
+                var inputs = recipeEntry.value().getIngredientsMap();
+
+                if (inputs.size() != 1) continue;
+
+                var ingredient = inputs.keySet().iterator().next();
+
+                // Custom ingredients may depend on more than the item, such are tested against each stack instead
+                if (ingredient.requiresTesting()) {
+                    testedIngredients.add(ingredient);
+                } else {
+                    for (var stack : ingredient.getMatchingStacks()) acceptedItems.add(stack.getItem());
+                }
+            }
+
+            return new ForgingInputIndex(acceptedItems, testedIngredients);
+        }
+
+        private boolean isUnique(ItemStack[] stacks) {
+            for (var stack : stacks) {
+                if (this.acceptedItems.contains(stack.getItem())) return false;
+
+                for (var ingredient : this.testedIngredients) {
+                    if (ingredient.test(stack)) return false;
+                }
+            }
+
+            return true;
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package wraith.alloyforgery.recipe;
+
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.RecipeEntry;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reusable plan for crafting an {@link AlloyForgeRecipe} within a given inventory, binding the recipe
+ * once so that both the remainders and the consumed ingredients come from the same slots
+ */
+public final class ForgingPlan {
+
+    private final SlotBinding binding = new SlotBinding();
+    private final ItemStack[] remainders = new ItemStack[SlotBinding.INPUT_SLOTS];
+
+    @Nullable
+    private RecipeEntry<AlloyForgeRecipe> recipe = null;
+
+    /**
+     * Binds the given recipe to the inventory, replacing any previous plan
+     *
+     * @return true if the recipe could be bound
+     */
+    public boolean prepare(RecipeEntry<AlloyForgeRecipe> recipe, Inventory inventory) {
+        this.recipe = recipe.value().bind(inventory, this.binding) ? recipe : null;
+
+        return this.recipe != null;
+    }
+
+    public void clear() {
+        this.recipe = null;
+        this.binding.clear();
+    }
+
+    /**
+     * Passes the remainders of every bound slot to the given handler before consuming the bound
+     * ingredients from the inventory, clearing the plan afterwards
+     */
+    public void apply(Inventory inventory, RemainderHandler remainderHandler) {
+        if (this.recipe == null) return;
+
+        if (AlloyForgeRecipe.resolveRemainders(this.recipe, inventory, this.binding, this.remainders)) {
+            for (int slot = 0; slot < this.remainders.length; slot++) {
+                if (!this.remainders[slot].isEmpty()) remainderHandler.insert(slot, this.remainders[slot]);
+
+                this.remainders[slot] = ItemStack.EMPTY;
+            }
+        }
+
+        for (int mask = this.binding.boundMask(); mask != 0; mask &= mask - 1) {
+            int slot = Integer.numberOfTrailingZeros(mask);
+
+            inventory.removeStack(slot, this.binding.count(slot));
+        }
+
+        this.clear();
+    }
+
+    public interface RemainderHandler {
+        void insert(int slot, ItemStack remainder);
+    }
+}
@@ -0,0 +1,23 @@
+package wraith.alloyforgery.recipe;
+
+import net.minecraft.recipe.Ingredient;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Table of structurally equal ingredients keyed by their {@link IngredientKey}, used to share a single instance
+ * of each along with its cached data. Only meant to be held for as long as recipes are being created.
+ */
+public final class IngredientInterner {
+
+    private final Map<IngredientKey, Ingredient> ingredients = new ConcurrentHashMap<>();
+
+    /**
+     * @return The first ingredient interned which is equal to the given ingredient
+     */
+    public Ingredient intern(Ingredient ingredient) {
+        final var existing = this.ingredients.putIfAbsent(IngredientKey.of(ingredient), ingredient);
+
+        return existing != null ? existing : ingredient;
+    }
+}
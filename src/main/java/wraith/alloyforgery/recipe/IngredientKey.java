@@ -0,0 +1,76 @@
+package wraith.alloyforgery.recipe;
+
+import com.mojang.serialization.JsonOps;
+import net.minecraft.recipe.Ingredient;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Util;
+import wraith.alloyforgery.mixin.IngredientAccessor;
+import wraith.alloyforgery.mixin.IngredientMixin;
+import wraith.alloyforgery.pond.IngredientKeyHolder;
+import java.util.Arrays;
+
+/**
+ * Canonical key of an {@link Ingredient} made of the sorted item and tag ids of its entries, used for hashing and
+ * equality of ingredients without encoding them. Ingredients with entries other than items or tags, such as custom
+ * Fabric ingredients, are instead keyed by their encoded json.
+ * <p/>
+ * Keys are computed once per ingredient and cached through {@link IngredientMixin}.
+ */
+public final class IngredientKey {
+
+    private final String[] parts;
+    private final int hash;
+
+    private IngredientKey(String[] parts) {
+        this.parts = parts;
+        this.hash = Arrays.hashCode(parts);
+    }
+
+    public static IngredientKey of(Ingredient ingredient) {
+        return ((IngredientKeyHolder) (Object) ingredient).af$getIngredientKey();
+    }
+
+    public static IngredientKey compute(Ingredient ingredient) {
+        if (ingredient.getCustomIngredient() == null) {
+            final var entries = ((IngredientAccessor) ingredient).af$getEntries();
+            final var parts = new String[entries.length];
+
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i] instanceof Ingredient.StackEntry stackEntry) {
+                    parts[i] = Registries.ITEM.getId(stackEntry.stack().getItem()).toString();
+                } else if (entries[i] instanceof Ingredient.TagEntry tagEntry) {
+                    parts[i] = "#" + tagEntry.tag().id();
+                } else {
+                    return ofJson(ingredient);
+                }
+            }
+
+            Arrays.sort(parts);
+
+            return new IngredientKey(parts);
+        }
+
+        return ofJson(ingredient);
+    }
+
+    private static IngredientKey ofJson(Ingredient ingredient) {
+        return new IngredientKey(new String[]{Util.getResult(Ingredient.ALLOW_EMPTY_CODEC.encodeStart(JsonOps.INSTANCE, ingredient), IllegalStateException::new).toString()});
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        return o instanceof IngredientKey other && this.hash == other.hash && Arrays.equals(this.parts, other.parts);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.parts);
+    }
+}
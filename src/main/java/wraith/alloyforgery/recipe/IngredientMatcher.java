@@ -0,0 +1,161 @@
+package wraith.alloyforgery.recipe;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.Ingredient;
+import net.minecraft.registry.Registries;
+import wraith.alloyforgery.mixin.IngredientAccessor;
+import wraith.alloyforgery.mixin.IngredientMixin;
+import wraith.alloyforgery.pond.IngredientMatcherHolder;
+import java.util.Arrays;
+
+/**
+ * Compiled form of {@link Ingredient#test} which resolves the item and tag entries of an ingredient
+ * into the raw ids of the accepted items. A single item is compared by reference, few items are looked up
+ * within a sorted array and only large sets are held as a bitset spanning the lowest to highest accepted id.
+ * <p/>
+ * Ingredients with entries which cannot be resolved ahead of time, such as custom Fabric ingredients,
+ * are instead tested through the ingredient itself.
+ * <p/>
+ * As tag entries are resolved when compiling, such should only be done once tags are bound. Matchers are
+ * cached per ingredient through {@link IngredientMixin}, so recipes sharing interned ingredients share them too.
+ */
+public abstract class IngredientMatcher {
+
+    private IngredientMatcher() {}
+
+    public static IngredientMatcher of(Ingredient ingredient) {
+        return ((IngredientMatcherHolder) (Object) ingredient).af$getIngredientMatcher();
+    }
+
+    public static IngredientMatcher compile(Ingredient ingredient) {
+        if (ingredient.getCustomIngredient() != null) return new Tested(ingredient);
+
+        final var rawIds = new IntOpenHashSet();
+
+        for (var entry : ((IngredientAccessor) ingredient).af$getEntries()) {
+            if (entry instanceof Ingredient.StackEntry stackEntry) {
+                addRawId(rawIds, stackEntry.stack().getItem());
+            } else if (entry instanceof Ingredient.TagEntry tagEntry) {
+                for (var itemEntry : Registries.ITEM.iterateEntries(tagEntry.tag())) {
+                    addRawId(rawIds, itemEntry.value());
+                }
+            } else {
+                return new Tested(ingredient);
+            }
+        }
+
+        final boolean matchesEmpty = ingredient.isEmpty();
+
+        final var sortedIds = rawIds.toIntArray();
+        Arrays.sort(sortedIds);
+
+        if (sortedIds.length == 1) return new SingleItem(matchesEmpty, Registries.ITEM.get(sortedIds[0]));
+
+        if (sortedIds.length > 1) {
+            final int firstWord = sortedIds[0] >>> 6;
+            final int wordCount = (sortedIds[sortedIds.length - 1] >>> 6) - firstWord + 1;
+
+            // A bitset is only used once smaller than the sorted ids, being 2 ids per word
+            if (wordCount * 2 < sortedIds.length) return new Bitset(matchesEmpty, firstWord, wordCount, sortedIds);
+        }
+
+        return new SortedIds(matchesEmpty, sortedIds);
+    }
+
+    public abstract boolean test(ItemStack stack);
+
+    private static void addRawId(IntOpenHashSet rawIds, Item item) {
+        final int rawId = Registries.ITEM.getRawId(item);
+
+        if (rawId >= 0) rawIds.add(rawId);
+    }
+
+    //--
+
+    private static final class Tested extends IngredientMatcher {
+
+        private final Ingredient ingredient;
+
+        private Tested(Ingredient ingredient) {
+            this.ingredient = ingredient;
+        }
+
+        @Override
+        public boolean test(ItemStack stack) {
+            return this.ingredient.test(stack);
+        }
+    }
+
+    private abstract static class Resolved extends IngredientMatcher {
+
+        private final boolean matchesEmpty;
+
+        private Resolved(boolean matchesEmpty) {
+            this.matchesEmpty = matchesEmpty;
+        }
+
+        @Override
+        public final boolean test(ItemStack stack) {
+            return stack.isEmpty() ? this.matchesEmpty : this.testItem(stack.getItem());
+        }
+
+        protected abstract boolean testItem(Item item);
+    }
+
+    private static final class SingleItem extends Resolved {
+
+        private final Item item;
+
+        private SingleItem(boolean matchesEmpty, Item item) {
+            super(matchesEmpty);
+            this.item = item;
+        }
+
+        @Override
+        protected boolean testItem(Item item) {
+            return item == this.item;
+        }
+    }
+
+    private static final class SortedIds extends Resolved {
+
+        private final int[] sortedIds;
+
+        private SortedIds(boolean matchesEmpty, int[] sortedIds) {
+            super(matchesEmpty);
+            this.sortedIds = sortedIds;
+        }
+
+        @Override
+        protected boolean testItem(Item item) {
+            return this.sortedIds.length != 0 && Arrays.binarySearch(this.sortedIds, Registries.ITEM.getRawId(item)) >= 0;
+        }
+    }
+
+    private static final class Bitset extends Resolved {
+
+        private final int firstWord;
+        private final long[] words;
+
+        private Bitset(boolean matchesEmpty, int firstWord, int wordCount, int[] rawIds) {
+            super(matchesEmpty);
+
+            this.firstWord = firstWord;
+            this.words = new long[wordCount];
+
+            for (int rawId : rawIds) {
+                this.words[(rawId >>> 6) - firstWord] |= 1L << rawId;
+            }
+        }
+
+        @Override
+        protected boolean testItem(Item item) {
+            final int rawId = Registries.ITEM.getRawId(item);
+            final int word = (rawId >>> 6) - this.firstWord;
+
+            return rawId >= 0 && word >= 0 && word < this.words.length && (this.words[word] & (1L << rawId)) != 0;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package wraith.alloyforgery.recipe;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.recipe.RecipeEntry;
+import org.jetbrains.annotations.Nullable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Bounded LRU cache of recipe lookups keyed by the contents of the input slots, allowing for many forges holding
+ * the same inventory to share a single lookup. Owned by an {@link AlloyForgeRecipeIndex} so that such is dropped
+ * alongside the recipes it refers to.
+ */
+final class MatchResultCache {
+
+    private static final int CAPACITY = 512;
+
+    private final Object2ObjectLinkedOpenHashMap<InputSignature, Optional<RecipeEntry<AlloyForgeRecipe>>> results = new Object2ObjectLinkedOpenHashMap<>();
+
+    /**
+     * @return The cached result, with an empty optional meaning no recipe matched, or null if not cached
+     */
+    @Nullable
+    public Optional<RecipeEntry<AlloyForgeRecipe>> get(InputSignature signature) {
+        return this.results.getAndMoveToLast(signature);
+    }
+
+    public void put(InputSignature signature, Optional<RecipeEntry<AlloyForgeRecipe>> result) {
+        this.results.putAndMoveToLast(signature.frozen(), result);
+
+        if (this.results.size() > CAPACITY) this.results.removeFirst();
+    }
+
+    /**
+     * Item, count and nbt of each input slot within an inventory alongside the tier of the forge searching
+     */
+    static final class InputSignature {
+
+        private final int forgeTier;
+
+        private final Item[] items;
+        private final int[] counts;
+        private final NbtCompound[] nbts;
+
+        private final int hash;
+
+        private InputSignature(int forgeTier, Item[] items, int[] counts, NbtCompound[] nbts) {
+            this.forgeTier = forgeTier;
+            this.items = items;
+            this.counts = counts;
+            this.nbts = nbts;
+
+            this.hash = 31 * (31 * (31 * forgeTier + Arrays.hashCode(items)) + Arrays.hashCode(counts)) + Arrays.hashCode(nbts);
+        }
+
+        public static InputSignature of(Inventory inventory, int forgeTier) {
+            var items = new Item[SlotBinding.INPUT_SLOTS];
+            var counts = new int[SlotBinding.INPUT_SLOTS];
+            var nbts = new NbtCompound[SlotBinding.INPUT_SLOTS];
+
+            for (int slot = 0; slot < SlotBinding.INPUT_SLOTS; slot++) {
+                var stack = inventory.getStack(slot);
+
+                items[slot] = stack.getItem();
+                counts[slot] = stack.getCount();
+                nbts[slot] = stack.getNbt();
+            }
+
+            return new InputSignature(forgeTier, items, counts, nbts);
+        }
+
+        // Copy with the nbt detached from the inventory, as stacks may be modified after being cached
+        private InputSignature frozen() {
+            var nbts = new NbtCompound[this.nbts.length];
+
+            for (int slot = 0; slot < nbts.length; slot++) {
+                if (this.nbts[slot] != null) nbts[slot] = this.nbts[slot].copy();
+            }
+
+            return new InputSignature(this.forgeTier, this.items, this.counts, nbts);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof InputSignature other) || this.hash != other.hash || this.forgeTier != other.forgeTier) return false;
+
+            for (int slot = 0; slot < this.items.length; slot++) {
+                if (this.items[slot] != other.items[slot] || this.counts[slot] != other.counts[slot]) return false;
+            }
+
+            for (int slot = 0; slot < this.nbts.length; slot++) {
+                if (!Objects.equals(this.nbts[slot], other.nbts[slot])) return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -15,7 +15,6 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.recipe.Ingredient;
 import net.minecraft.registry.Registries;
 import net.minecraft.util.Pair;
-import net.minecraft.util.Util;
 import org.apache.commons.lang3.mutable.MutableInt;
 import wraith.alloyforgery.AlloyForgery;
 
@@ -27,42 +26,20 @@ public record RawAlloyForgeRecipe(Map<Ingredient, Integer> inputs, OutputData ou
 
     private static final List<AlloyForgeRecipe> ingredientInputFormatIssues = new ArrayList<>();
 
+    // Ingredients are compared through their cached canonical key rather than their encoded json
     private static final Hash.Strategy<Ingredient> INGREDIENT_STRATEGY = new Hash.Strategy<>() {
         @Override
         public int hashCode(Ingredient o) {
-            String stringData;
-
             if(o == null) return 0;
 
-            try {
-                stringData = Util.getResult(Ingredient.ALLOW_EMPTY_CODEC.encodeStart(JsonOps.INSTANCE, o), IllegalStateException::new).toString();
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-
-            return stringData.hashCode();
+            return IngredientKey.of(o).hashCode();
         }
 
         @Override
         public boolean equals(Ingredient a, Ingredient b) {
             if(a == null || b == null) return false;
 
-            String stringDataA;
-            String stringDataB;
-
-            try {
-                stringDataA = Util.getResult(Ingredient.ALLOW_EMPTY_CODEC.encodeStart(JsonOps.INSTANCE, a), IllegalStateException::new).toString();
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-
-            try {
-                stringDataB = Util.getResult(Ingredient.ALLOW_EMPTY_CODEC.encodeStart(JsonOps.INSTANCE, b), IllegalStateException::new).toString();
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-
-            return stringDataA.equals(stringDataB);
+            return a == b || IngredientKey.of(a).equals(IngredientKey.of(b));
         }
     };
 
@@ -70,7 +47,7 @@ public record RawAlloyForgeRecipe(Map<Ingredient, Integer> inputs, OutputData ou
         var unprocessedData = new Object2ObjectLinkedOpenCustomHashMap<Ingredient, MutableInt>(INGREDIENT_STRATEGY);
 
         for (CountedIngredient countedIngredient : list) {
-            var ingredient = countedIngredient.ingredient();
+            var ingredient = AlloyForgeReloadContext.staged().internIngredient(countedIngredient.ingredient());
 
             if(unprocessedData.containsKey(ingredient) && (AlloyForgery.CONFIG.strictRecipeChecks() || FabricLoader.getInstance().isDevelopmentEnvironment())) {
                 var jsonData = Ingredient.ALLOW_EMPTY_CODEC.encodeStart(JsonOps.INSTANCE, ingredient)
@@ -168,7 +145,7 @@ public record RawAlloyForgeRecipe(Map<Ingredient, Integer> inputs, OutputData ou
         final var recipe = new AlloyForgeRecipe(Optional.of(this), this.inputs, outputData.getLeft(), minForgeTier, requiredFuel, outputData.getRight());
 
         if (!isDataGenerated && this.outputData.prioritisedOutput()) {
-            AlloyForgeRecipe.PENDING_RECIPES.put(recipe, new AlloyForgeRecipe.PendingRecipeData(new Pair<>(this.outputData.defaultTag(), this.outputData.count()), this.overrideData));
+            AlloyForgeReloadContext.staged().addPendingRecipe(recipe, new AlloyForgeRecipe.PendingRecipeData(new Pair<>(this.outputData.defaultTag(), this.outputData.count()), this.overrideData));
         }
 
         return recipe;
@@ -0,0 +1,57 @@
+package wraith.alloyforgery.recipe;
+
+import it.unimi.dsi.fastutil.ints.Int2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+
+/**
+ * Reusable result of binding an {@link AlloyForgeRecipe} to the input slots of an inventory,
+ * storing the bound slots as a bitmask alongside the amount to consume from each of them
+ */
+public final class SlotBinding {
+
+    public static final int INPUT_SLOTS = 10;
+
+    public static final int ALL_INPUT_SLOTS = (1 << INPUT_SLOTS) - 1;
+
+    private final int[] counts = new int[INPUT_SLOTS];
+    private int boundMask = 0;
+
+    public void clear() {
+        this.boundMask = 0;
+    }
+
+    void bind(int slot, int count) {
+        this.boundMask |= 1 << slot;
+        this.counts[slot] = count;
+    }
+
+    public int boundMask() {
+        return this.boundMask;
+    }
+
+    private boolean isBound(int slot) {
+        return (this.boundMask & (1 << slot)) != 0;
+    }
+
+    /**
+     * @return The amount of items to be consumed from the given slot or 0 if not bound
+     */
+    public int count(int slot) {
+        return isBound(slot) ? this.counts[slot] : 0;
+    }
+
+    /**
+     * @return A map of the bound slots to the amount consumed from such
+     */
+    public Int2IntMap toMap() {
+        var map = new Int2IntLinkedOpenHashMap();
+
+        for (int mask = this.boundMask; mask != 0; mask &= mask - 1) {
+            int slot = Integer.numberOfTrailingZeros(mask);
+
+            map.put(slot, this.counts[slot]);
+        }
+
+        return map;
+    }
+}
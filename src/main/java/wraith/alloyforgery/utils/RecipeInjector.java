@@ -58,20 +58,16 @@ public final class RecipeInjector {
             throw new IllegalStateException("Unable to add Recipe for a RecipeType not registered!");
         }
 
-        var type = (RecipeType<T>) recipe.getType();
-
-        var bl = manager.listAllOfType(type)
-                .stream()
-                .anyMatch(recipeEntry -> id.equals(recipeEntry.id()));
-
-        if (bl) {
-            LOGGER.error("[RecipeInjector]: Unable to add a given recipe due to being the same Identifier with the given Type. [ID: {}]", id);
+        if (((RecipeManagerAccessor) manager).af$getRecipesById().containsKey(id)) {
+            LOGGER.error("[RecipeInjector]: Unable to add a given recipe due to having the same Identifier as an existing recipe. [ID: {}]", id);
 
             return;
         }
 
-        recipes.computeIfAbsent(recipe.getType(), t -> new HashMap<>()).put(id, new RecipeEntry<>(id, recipe));
-        recipesById.put(id, new RecipeEntry<>(id, recipe));
+        var entry = new RecipeEntry<Recipe<?>>(id, recipe);
+
+        recipes.computeIfAbsent(recipe.getType(), t -> new HashMap<>()).put(id, entry);
+        recipesById.put(id, entry);
     }
 
     /**
@@ -102,16 +98,33 @@ public final class RecipeInjector {
 
         ADD_RECIPES.invoker().addRecipes(injector);
 
+        if (injector.recipesById.isEmpty()) return;
+
         var managerAccessor = (RecipeManagerAccessor) manager;
 
+        var recipes = ImmutableMap.<RecipeType<?>, Map<Identifier, RecipeEntry<Recipe<?>>>>builder();
+
+        // Only types with injected recipes are rebuilt, every other type keeps its existing map
         managerAccessor.af$getRecipes().forEach((recipeType, identifierRecipeMap) -> {
-            injector.recipes.computeIfAbsent(recipeType, t -> new HashMap<>()).putAll(identifierRecipeMap);
+            var injectedRecipes = injector.recipes.remove(recipeType);
+
+            if (injectedRecipes == null) {
+                recipes.put(recipeType, identifierRecipeMap);
+            } else {
+                recipes.put(recipeType, ImmutableMap.<Identifier, RecipeEntry<Recipe<?>>>builder()
+                        .putAll(identifierRecipeMap)
+                        .putAll(injectedRecipes)
+                        .build());
+            }
         });
 
-        injector.recipesById.putAll(managerAccessor.af$getRecipesById());
+        injector.recipes.forEach((recipeType, injectedRecipes) -> recipes.put(recipeType, ImmutableMap.copyOf(injectedRecipes)));
 
-        managerAccessor.af$setRecipes(ImmutableMap.copyOf(injector.recipes));
-        managerAccessor.af$setRecipesById(ImmutableMap.copyOf(injector.recipesById));
+        managerAccessor.af$setRecipes(recipes.build());
+        managerAccessor.af$setRecipesById(ImmutableMap.<Identifier, RecipeEntry<Recipe<?>>>builder()
+                .putAll(managerAccessor.af$getRecipesById())
+                .putAll(injector.recipesById)
+                .build());
 
         injector.recipes.clear();
         injector.recipesById.clear();